@@ -1,10 +1,12 @@
 package com.george.plugins.jira;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 
 import javax.xml.rpc.ServiceException;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -13,7 +15,7 @@ import org.apache.maven.settings.Server;
 import org.apache.maven.settings.Settings;
 
 import com.atlassian.jira.rpc.soap.client.JiraSoapService;
-import com.atlassian.jira.rpc.soap.client.JiraSoapServiceServiceLocator;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
 
 /**
  * This class allows the use of {@link JiraSoapService} in JIRA Actions
@@ -33,6 +35,15 @@ public abstract class AbstractJiraMojo extends AbstractMojo {
 	 */
 	Settings settings;
 
+	/**
+	 * The current build session, used to share the JIRA login among all the
+	 * executions of the reactor
+	 * 
+	 * @parameter expression="${session}"
+	 * @readonly
+	 */
+	MavenSession session;
+
 	/**
 	 * Server's id in settings.xml to look up username and password.
 	 * 
@@ -71,8 +82,217 @@ public abstract class AbstractJiraMojo extends AbstractMojo {
 	 */
 	protected String jiraProjectKey;
 
+	/**
+	 * HTTP transport used to call JIRA. <code>default</code> opens a new
+	 * connection for every call, <code>pooled</code> keeps connections alive
+	 * in a pool shared by the whole build.
+	 * 
+	 * @parameter expression="${jiraTransport}" default-value="default"
+	 */
+	protected String jiraTransport = JiraTransport.DEFAULT;
+
+	/**
+	 * Maximum number of pooled connections to each JIRA host. Only used by the
+	 * <code>pooled</code> transport.
+	 * 
+	 * @parameter expression="${jiraMaxConnectionsPerHost}" default-value="4"
+	 */
+	protected int maxConnectionsPerHost = 4;
+
+	/**
+	 * Maximum number of pooled connections to all JIRA hosts. Only used by the
+	 * <code>pooled</code> transport.
+	 * 
+	 * @parameter expression="${jiraMaxTotalConnections}" default-value="20"
+	 */
+	protected int maxTotalConnections = 20;
+
+	/**
+	 * Ask JIRA for gzipped responses and report the bytes saved. Requires the
+	 * <code>pooled</code> transport.
+	 * 
+	 * @parameter expression="${jiraCompression}" default-value="false"
+	 */
+	protected boolean jiraCompression;
+
+	/**
+	 * Requests larger than this many bytes are sent gzipped. JIRA must accept
+	 * compressed requests. 0 never compresses requests.
+	 * 
+	 * @parameter expression="${jiraGzipRequestThreshold}" default-value="0"
+	 */
+	protected int gzipRequestThreshold;
+
+	/**
+	 * Attempts made for JIRA read operations failing with a transient error
+	 * (I/O error, timeout, HTTP 408, 429 or 5xx), including the first one.
+	 * 
+	 * @parameter expression="${jiraRetryAttempts}" default-value="3"
+	 */
+	protected int retryAttempts = 3;
+
+	/**
+	 * Backoff in milliseconds before the first retry. Later retries double it,
+	 * up to <code>retryMaxDelay</code>, and each wait is randomized.
+	 * 
+	 * @parameter expression="${jiraRetryDelay}" default-value="200"
+	 */
+	protected long retryDelay = 200;
+
+	/**
+	 * Maximum backoff in milliseconds between two attempts.
+	 * 
+	 * @parameter expression="${jiraRetryMaxDelay}" default-value="5000"
+	 */
+	protected long retryMaxDelay = 5000;
+
+	/**
+	 * Consecutive transient failures after which JIRA is considered down and
+	 * the remaining calls of the build fail fast.
+	 * 
+	 * @parameter expression="${jiraCircuitBreakerThreshold}" default-value="5"
+	 */
+	protected int circuitBreakerThreshold = 5;
+
+	/**
+	 * Milliseconds to wait before trying JIRA again once it is considered
+	 * down.
+	 * 
+	 * @parameter expression="${jiraCircuitBreakerDelay}" default-value="30000"
+	 */
+	protected long circuitBreakerDelay = 30000;
+
+	/**
+	 * Time budget in milliseconds for all the JIRA calls of one execution,
+	 * retries included. 0 means no limit.
+	 * 
+	 * @parameter expression="${jiraExecutionTimeout}" default-value="0"
+	 */
+	protected long executionTimeout;
+
+	/**
+	 * Maximum number of JIRA calls a mojo may run at the same time through
+	 * its {@link JiraClient}.
+	 * 
+	 * @parameter expression="${jiraClientThreads}" default-value="4"
+	 */
+	protected int jiraClientThreads = 4;
+
+	/**
+	 * Keeps JIRA project metadata (versions, components, issue types,
+	 * priorities, statuses and resolutions) in a local cache between builds.
+	 * 
+	 * @parameter expression="${jiraMetadataCache}" default-value="false"
+	 */
+	protected boolean metadataCache;
+
+	/**
+	 * Directory of the JIRA metadata cache.
+	 * 
+	 * @parameter expression="${jiraMetadataCacheDirectory}"
+	 *            default-value="${user.home}/.m2/jira-metadata"
+	 */
+	protected File metadataCacheDirectory;
+
+	/**
+	 * Seconds the versions and components of a project stay in the metadata
+	 * cache. Versions are refreshed anyway after this plugin adds or releases
+	 * one.
+	 * 
+	 * @parameter expression="${jiraProjectMetadataTtl}" default-value="600"
+	 */
+	protected int projectMetadataTtl = 600;
+
+	/**
+	 * Seconds the issue types, priorities, statuses and resolutions stay in
+	 * the metadata cache.
+	 * 
+	 * @parameter expression="${jiraConstantsTtl}" default-value="86400"
+	 */
+	protected int constantsTtl = 86400;
+
+	/**
+	 * Keeps the JIRA versions, projects, issue types, statuses, priorities and
+	 * custom fields read by the build in memory, for the same times to live
+	 * as the metadata cache.
+	 * 
+	 * @parameter expression="${jiraMemoryCache}" default-value="false"
+	 */
+	protected boolean memoryCache;
+
+	/**
+	 * Results kept by the memory cache, the least recently used ones are
+	 * evicted beyond it.
+	 * 
+	 * @parameter expression="${jiraMemoryCacheSize}" default-value="256"
+	 */
+	protected int memoryCacheSize = 256;
+
+	/**
+	 * Seconds a project or version found missing in JIRA, or a release notes
+	 * query that found no issues, is remembered by the build, so other
+	 * modules asking for it again get the answer without a call. 0, the
+	 * default, disables it.
+	 * 
+	 * @parameter expression="${jiraNegativeCacheTtl}" default-value="0"
+	 */
+	protected int negativeCacheTtl;
+
+	/**
+	 * Seconds after which the SOAP stubs, caches and pooled connections kept
+	 * by the Maven process for later builds are dropped if unused. Matters
+	 * for long-lived processes such as the Maven daemon. 0 keeps them.
+	 * 
+	 * @parameter expression="${jiraProcessCacheIdleTimeout}"
+	 *            default-value="1800"
+	 */
+	protected int processCacheIdleTimeout = 1800;
+
+	/**
+	 * Megabytes the stubs and caches kept by the Maven process may use,
+	 * roughly; the least recently used ones are dropped beyond it. 0 for no
+	 * limit.
+	 * 
+	 * @parameter expression="${jiraProcessCacheMaxMemory}" default-value="64"
+	 */
+	protected int processCacheMaxMemory = 64;
+
+	/**
+	 * Keeps the JIRA login token, encrypted, next to the metadata cache
+	 * between builds instead of logging out, so the next build reuses it
+	 * without logging in while JIRA accepts it.
+	 * 
+	 * @parameter expression="${jiraKeepLoginToken}" default-value="false"
+	 */
+	protected boolean keepLoginToken;
+
+	/**
+	 * Records the JIRA reads of this build in a local snapshot, so later
+	 * builds can run offline.
+	 * 
+	 * @parameter expression="${jiraSnapshot}" default-value="false"
+	 */
+	protected boolean snapshot;
+
+	/**
+	 * Runs without contacting JIRA: reads are answered from the snapshot
+	 * recorded by a previous build and updates fail.
+	 * 
+	 * @parameter expression="${jiraOffline}" default-value="false"
+	 */
+	protected boolean offline;
+
 	transient JiraSoapService jiraService;
 
+	private transient NegativeCache negativeCache;
+
+	private transient MetadataCache recordedSnapshot;
+
+	/**
+	 * Traffic of this execution, if compression is reported
+	 */
+	private transient CompressionStatistics compression;
+
 	/**
 	 * Returns if this plugin is enabled for this context
 	 * 
@@ -81,7 +301,8 @@ public abstract class AbstractJiraMojo extends AbstractMojo {
 	protected boolean skip;
 
 	/**
-	 * Returns the stub needed to invoke the WebService
+	 * Returns the stub needed to invoke the WebService. Stubs are shared by
+	 * all the executions of the build that use the same JIRA URL.
 	 * 
 	 * @return
 	 * @throws MalformedURLException
@@ -90,17 +311,29 @@ public abstract class AbstractJiraMojo extends AbstractMojo {
 	protected JiraSoapService getJiraSoapService()
 			throws MalformedURLException, ServiceException {
 		if (jiraService == null) {
-			JiraSoapServiceServiceLocator locator = new JiraSoapServiceServiceLocator();
 			String url = discoverJiraWSURL();
 			if (url == null)
 				throw new MalformedURLException(
 						"JIRA URL cound not be found. Check your pom.xml configuration.");
 			URL u = new URL(url);
-			jiraService = locator.getJirasoapserviceV2(u);
+			jiraService = JiraServiceRegistry.getService(u, getJiraTransport());
 		}
 		return jiraService;
 	}
 
+	/**
+	 * Returns the HTTP transport configured for this mojo
+	 * 
+	 * @return
+	 * @throws ServiceException
+	 *             if the transport configuration is invalid
+	 */
+	JiraTransport getJiraTransport() throws ServiceException {
+		return JiraTransport.valueOf(jiraTransport, maxConnectionsPerHost,
+				maxTotalConnections).withCompression(jiraCompression,
+				gzipRequestThreshold);
+	}
+
 	/**
 	 * Returns the formatted JIRA WebService URL
 	 * 
@@ -155,30 +388,283 @@ public abstract class AbstractJiraMojo extends AbstractMojo {
 	@Override
 	public final void execute() throws MojoExecutionException,
 			MojoFailureException {
+		execute((session == null) ? null : JiraSessionManager.forBuild(
+				session, getLog()));
+	}
+
+	private void execute(JiraSessionManager manager)
+			throws MojoFailureException {
 		Log log = getLog();
 		if (isSkip()) {
 			log.info("Skipping Plugin execution.");
 			return;
 		}
+		JvmCache.configure(processCacheIdleTimeout * 1000L,
+				processCacheMaxMemory * 1024L * 1024L);
 		try {
-			JiraSoapService jiraService = getJiraSoapService();
 			loadUserInfoFromSettings();
-			log.debug("Logging in JIRA");
-			String loginToken = jiraService.login(jiraUser, jiraPassword);
-			log.debug("Logged in JIRA");
+			if (offline) {
+				executeOffline();
+				return;
+			}
+			JiraSoapService jiraService = getJiraSoapService();
+			compression = jiraCompression ? new CompressionStatistics() : null;
+			long[] before = (compression == null) ? null : compression
+					.snapshot();
 			try {
-				doExecute(jiraService, loginToken);
+				if (manager != null) {
+					executeInSharedSession(jiraService, manager);
+				} else {
+					executeInOwnSession(jiraService);
+				}
 			} finally {
-				log.debug("Logging out from JIRA");
-				jiraService.logout(loginToken);
-				log.debug("Logged out from JIRA");
+				if (compression != null) {
+					log.info(compression.describe(before));
+				}
+				if (log.isDebugEnabled()) {
+					log.debug(getSingleFlight().toString());
+				}
+				if (recordedSnapshot != null) {
+					recordedSnapshot.flush();
+				}
 			}
+		} catch (NegativeCache.Miss e) {
+			log.warn(e.getMessage());
+		} catch (MojoFailureException e) {
+			// Wrong configuration, the build must not go on
+			throw e;
 		} catch (Exception e) {
 			log.error("Error when executing mojo", e);
 			// XXX: Por enquanto nao faz nada.
 		}
 	}
 
+	/**
+	 * Runs the mojo against the snapshot, without stub nor login
+	 * 
+	 * @throws Exception
+	 */
+	void executeOffline() throws Exception {
+		getLog().info("JIRA offline, reading the snapshot of " + jiraUser);
+		doExecute(JiraSnapshotDecorator.offline(getSnapshot()),
+				JiraSnapshotDecorator.OFFLINE_TOKEN);
+	}
+
+	/**
+	 * Adds the layers of this execution on top of the logged in service,
+	 * innermost first: retry policy and circuit breaker, sharing of
+	 * concurrent identical reads, snapshot recording, metadata cache, memory
+	 * cache, then known missing lookups
+	 * 
+	 * @param jiraService
+	 * @return
+	 */
+	JiraSoapService decorate(JiraSoapService jiraService) {
+		JiraSoapService service = jiraService;
+		if (compression != null) {
+			// On the thread sending the call, even when resilience hands it over
+			service = new CompressionStatisticsDecorator(service, compression)
+					.decorate();
+		}
+		service = withResilience(service);
+		service = new SingleFlightDecorator(service, getSingleFlight())
+				.decorate();
+		if (metadataCache) {
+			service = withMetadataCache(service);
+		}
+		if (memoryCache) {
+			service = withMemoryCache(service);
+		}
+		if (snapshot) {
+			// Outside the caches, so reads answered by them are recorded too
+			recordedSnapshot = getSnapshot();
+			service = JiraSnapshotDecorator.recording(service, recordedSnapshot);
+		}
+		if (negativeCacheTtl > 0) {
+			service = new NegativeCacheDecorator(service, getNegativeCache())
+					.decorate();
+		}
+		return service;
+	}
+
+	/**
+	 * Wraps the service with the on-disk metadata cache of the JIRA user
+	 * 
+	 * @param jiraService
+	 * @return
+	 */
+	JiraSoapService withMetadataCache(JiraSoapService jiraService) {
+		MetadataCache cache = MetadataCache.forFile(new File(
+				getMetadataCacheDirectory(), MetadataCache.fileName(
+						discoverJiraWSURL(), jiraUser)));
+		return new MetadataCacheDecorator(jiraService, cache,
+				projectMetadataTtl * 1000L, constantsTtl * 1000L).decorate();
+	}
+
+	/**
+	 * Wraps the service with the in-memory cache of the JIRA user, shared by
+	 * the executions of the build
+	 * 
+	 * @param jiraService
+	 * @return
+	 */
+	JiraSoapService withMemoryCache(JiraSoapService jiraService) {
+		MemoryCache cache = MemoryCache.forOwner(discoverJiraWSURL() + '\n'
+				+ jiraUser, memoryCacheSize);
+		return new MemoryCacheDecorator(jiraService, cache,
+				projectMetadataTtl * 1000L, constantsTtl * 1000L).decorate();
+	}
+
+	/**
+	 * Returns the lookups known to find nothing in this build
+	 * 
+	 * @return
+	 */
+	NegativeCache getNegativeCache() {
+		if (negativeCache == null) {
+			negativeCache = NegativeCache.forBuild(session,
+					negativeCacheTtl * 1000L);
+		}
+		return negativeCache;
+	}
+
+	/**
+	 * Records the result of a search answered without JIRA running it, such
+	 * as a synchronized one, if this execution records the snapshot
+	 * 
+	 * @param jql
+	 * @param maxIssues
+	 * @param issues
+	 */
+	void recordSearch(String jql, int maxIssues, RemoteIssue[] issues) {
+		if (recordedSnapshot != null && issues != null) {
+			JiraSnapshotDecorator.recordSearch(recordedSnapshot, jql,
+					maxIssues, issues);
+		}
+	}
+
+	/**
+	 * Returns the offline snapshot of the JIRA user
+	 * 
+	 * @return
+	 */
+	MetadataCache getSnapshot() {
+		return MetadataCache.forFile(new File(getMetadataCacheDirectory(),
+				MetadataCache.snapshotFileName(discoverJiraWSURL(), jiraUser)));
+	}
+
+	/**
+	 * Returns where the login token of the JIRA user is kept
+	 * 
+	 * @return the cache, or <code>null</code> if tokens are not kept
+	 */
+	LoginTokenCache getLoginTokenCache() {
+		if (!keepLoginToken) {
+			return null;
+		}
+		String url = discoverJiraWSURL();
+		return new LoginTokenCache(new File(getMetadataCacheDirectory(),
+				LoginTokenCache.fileName(url, jiraUser)), url, jiraUser,
+				jiraPassword);
+	}
+
+	/**
+	 * Returns the directory of the metadata cache and other local JIRA data
+	 * 
+	 * @return
+	 */
+	File getMetadataCacheDirectory() {
+		if (metadataCacheDirectory != null) {
+			return metadataCacheDirectory;
+		}
+		return new File(System.getProperty("user.home"), ".m2"
+				+ File.separator + "jira-metadata");
+	}
+
+	/**
+	 * Returns the sharing of identical reads of the JIRA endpoint
+	 * 
+	 * @return
+	 */
+	SingleFlight getSingleFlight() {
+		return SingleFlight.forEndpoint(String.valueOf(discoverJiraWSURL()));
+	}
+
+	/**
+	 * Wraps the service with the retry policy, circuit breaker and time budget
+	 * of this execution
+	 * 
+	 * @param jiraService
+	 * @return
+	 */
+	JiraSoapService withResilience(JiraSoapService jiraService) {
+		CircuitBreaker breaker = CircuitBreaker.forEndpoint(
+				String.valueOf(discoverJiraWSURL()), circuitBreakerThreshold,
+				circuitBreakerDelay);
+		return new ResilienceDecorator(jiraService, breaker, retryAttempts,
+				retryDelay, retryMaxDelay, executionTimeout).decorate();
+	}
+
+	/**
+	 * Returns an asynchronous facade over the service, for mojos that can
+	 * overlap independent calls
+	 * 
+	 * @param jiraService
+	 *            the service given to {@link #doExecute}
+	 * @param loginToken
+	 * @return
+	 */
+	JiraClient createJiraClient(JiraSoapService jiraService, String loginToken) {
+		return new JiraClient(jiraService, loginToken,
+				JiraExecutors.forParallelism(jiraClientThreads));
+	}
+
+	/**
+	 * Runs this mojo between its own login and logout
+	 * 
+	 * @param jiraService
+	 * @throws Exception
+	 */
+	void executeInOwnSession(JiraSoapService jiraService) throws Exception {
+		Log log = getLog();
+		LoginTokenCache tokenCache = getLoginTokenCache();
+		if (tokenCache != null) {
+			JiraSession jiraSession = new JiraSession(jiraService, jiraUser,
+					jiraPassword, tokenCache);
+			log.debug("Using kept JIRA login token");
+			doExecute(decorate(jiraSession.getService()),
+					jiraSession.getToken());
+			return;
+		}
+		log.debug("Logging in JIRA");
+		String loginToken = jiraService.login(jiraUser, jiraPassword);
+		log.debug("Logged in JIRA");
+		try {
+			doExecute(decorate(jiraService), loginToken);
+		} finally {
+			log.debug("Logging out from JIRA");
+			jiraService.logout(loginToken);
+			log.debug("Logged out from JIRA");
+		}
+	}
+
+	/**
+	 * Runs this mojo with the JIRA login shared by the whole build. The login
+	 * happens on the first execution and the logout after the last one.
+	 * 
+	 * @param jiraService
+	 * @param manager
+	 *            sessions of the build
+	 * @throws Exception
+	 */
+	void executeInSharedSession(JiraSoapService jiraService,
+			JiraSessionManager manager) throws Exception {
+		JiraSession jiraSession = manager.getSession(discoverJiraWSURL(),
+				jiraService, jiraUser, jiraPassword, getLoginTokenCache());
+		getLog().debug("Using shared JIRA session");
+		doExecute(decorate(jiraSession.getService()), jiraSession.getToken());
+	}
+
 	public abstract void doExecute(JiraSoapService jiraService,
 			String loginToken) throws Exception;
 
@@ -210,4 +696,12 @@ public abstract class AbstractJiraMojo extends AbstractMojo {
 		this.settingsKey = settingsKey;
 	}
 
+	public void setSession(MavenSession session) {
+		this.session = session;
+	}
+
+	public void setJiraTransport(String jiraTransport) {
+		this.jiraTransport = jiraTransport;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.george.plugins.jira;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stops calling a JIRA installation that keeps failing.
+ *
+ * After <code>failureThreshold</code> consecutive failures the breaker opens
+ * and rejects calls for <code>openMillis</code>. Then a single trial call is
+ * let through: success closes the breaker, failure opens it again. Breakers
+ * are shared by all the executions of the build that use the same endpoint.
+ *
+ */
+class CircuitBreaker {
+
+	private static final ConcurrentMap<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<String, CircuitBreaker>();
+
+	private final int failureThreshold;
+	private final long openMillis;
+
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean open;
+	private boolean trialInFlight;
+
+	CircuitBreaker(int failureThreshold, long openMillis) {
+		this.failureThreshold = failureThreshold;
+		this.openMillis = openMillis;
+	}
+
+	/**
+	 * Returns the breaker of the given JIRA endpoint, creating it with the
+	 * given settings if needed
+	 *
+	 * @param endpoint
+	 * @param failureThreshold
+	 * @param openMillis
+	 * @return
+	 */
+	static CircuitBreaker forEndpoint(String endpoint, int failureThreshold,
+			long openMillis) {
+		CircuitBreaker breaker = BREAKERS.get(endpoint);
+		if (breaker == null) {
+			breaker = new CircuitBreaker(failureThreshold, openMillis);
+			CircuitBreaker existing = BREAKERS.putIfAbsent(endpoint, breaker);
+			if (existing != null) {
+				breaker = existing;
+			}
+		}
+		return breaker;
+	}
+
+	/**
+	 * Returns if a call may be attempted now. While open, only one trial call
+	 * is allowed once <code>openMillis</code> have elapsed.
+	 *
+	 * @return
+	 */
+	synchronized boolean allowRequest() {
+		if (!open) {
+			return true;
+		}
+		if (!trialInFlight
+				&& System.currentTimeMillis() - openedAt >= openMillis) {
+			trialInFlight = true;
+			return true;
+		}
+		return false;
+	}
+
+	synchronized void recordSuccess() {
+		consecutiveFailures = 0;
+		open = false;
+		trialInFlight = false;
+	}
+
+	synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (trialInFlight || consecutiveFailures >= failureThreshold) {
+			open = true;
+			openedAt = System.currentTimeMillis();
+			trialInFlight = false;
+		}
+	}
+
+	synchronized boolean isOpen() {
+		return open;
+	}
+}
@@ -0,0 +1,174 @@
+package com.george.plugins.jira;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts how many bytes gzip compression saved on JIRA responses.
+ *
+ * The compressed size of a response is taken from its Content-Length header,
+ * so gzipped responses sent with chunked encoding are counted apart: their
+ * size on the wire is unknown.
+ *
+ * Each mojo execution counts its own traffic: the transport credits the
+ * statistics current on the thread sending the call, see
+ * {@link CompressionStatisticsDecorator}.
+ *
+ */
+class CompressionStatistics {
+
+	private static final ThreadLocal<CompressionStatistics> CURRENT = new ThreadLocal<CompressionStatistics>();
+
+	private final AtomicLong responses = new AtomicLong();
+	private final AtomicLong compressedResponses = new AtomicLong();
+	private final AtomicLong wireBytes = new AtomicLong();
+	private final AtomicLong decodedBytes = new AtomicLong();
+	private final AtomicLong unmeasuredBytes = new AtomicLong();
+	private final AtomicLong compressedRequests = new AtomicLong();
+
+	/**
+	 * Returns the statistics of the call sent by the current thread
+	 *
+	 * @return the statistics, or <code>null</code> if its traffic is not
+	 *         counted
+	 */
+	static CompressionStatistics current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Makes the given statistics current on this thread
+	 *
+	 * @param statistics
+	 *            the statistics, <code>null</code> to count nothing
+	 * @return the statistics current until now
+	 */
+	static CompressionStatistics makeCurrent(CompressionStatistics statistics) {
+		CompressionStatistics previous = CURRENT.get();
+		if (statistics == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(statistics);
+		}
+		return previous;
+	}
+
+	/**
+	 * Records a response and returns its body wrapped so the bytes read from
+	 * it are counted
+	 *
+	 * @param body
+	 *            the decoded response body
+	 * @param compressed
+	 *            whether the response was sent gzipped
+	 * @param contentLength
+	 *            the size on the wire, negative if unknown
+	 * @return
+	 */
+	InputStream countResponse(InputStream body, boolean compressed,
+			long contentLength) {
+		responses.incrementAndGet();
+		if (!compressed) {
+			return body;
+		}
+		compressedResponses.incrementAndGet();
+		if (contentLength < 0) {
+			return new CountingInputStream(body, unmeasuredBytes);
+		}
+		wireBytes.addAndGet(contentLength);
+		return new CountingInputStream(body, decodedBytes);
+	}
+
+	/**
+	 * Records a request sent gzipped
+	 */
+	void countCompressedRequest() {
+		compressedRequests.incrementAndGet();
+	}
+
+	/**
+	 * Returns the current counters
+	 *
+	 * @return
+	 */
+	long[] snapshot() {
+		return new long[]{responses.get(), compressedResponses.get(),
+				wireBytes.get(), decodedBytes.get(), unmeasuredBytes.get(),
+				compressedRequests.get()};
+	}
+
+	/**
+	 * Describes the traffic recorded since the given snapshot
+	 *
+	 * @param since
+	 *            a value returned by {@link #snapshot()}
+	 * @return
+	 */
+	String describe(long[] since) {
+		long[] now = snapshot();
+		long wire = now[2] - since[2];
+		long decoded = now[3] - since[3];
+		StringBuilder sb = new StringBuilder();
+		sb.append(now[0] - since[0]).append(" JIRA responses (")
+				.append(now[1] - since[1]).append(" gzipped): ")
+				.append(kb(wire)).append(" received for ").append(kb(decoded))
+				.append(" of XML, ").append(kb(decoded - wire))
+				.append(" saved");
+		long unmeasured = now[4] - since[4];
+		if (unmeasured > 0) {
+			sb.append(", plus ").append(kb(unmeasured))
+					.append(" of XML in chunked responses");
+		}
+		long requests = now[5] - since[5];
+		if (requests > 0) {
+			sb.append(", ").append(requests).append(" requests gzipped");
+		}
+		return sb.toString();
+	}
+
+	private static String kb(long bytes) {
+		return (bytes / 1024) + " KB";
+	}
+
+	/**
+	 * Adds every byte read to a counter
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		private final AtomicLong counter;
+
+		CountingInputStream(InputStream in, AtomicLong counter) {
+			super(in);
+			this.counter = counter;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b != -1) {
+				counter.incrementAndGet();
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n > 0) {
+				counter.addAndGet(n);
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			if (skipped > 0) {
+				counter.addAndGet(skipped);
+			}
+			return skipped;
+		}
+	}
+}
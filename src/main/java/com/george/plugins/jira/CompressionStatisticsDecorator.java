@@ -0,0 +1,37 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.Method;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * Credits the traffic of the calls of one mojo execution to its own
+ * {@link CompressionStatistics}.
+ *
+ * The transport is shared by the executions of the build, so the statistics
+ * are made current on the thread sending each call, whichever thread of the
+ * build or of its executors that is.
+ *
+ */
+class CompressionStatisticsDecorator extends JiraServiceDecorator {
+
+	private final CompressionStatistics statistics;
+
+	CompressionStatisticsDecorator(JiraSoapService delegate,
+			CompressionStatistics statistics) {
+		super(delegate);
+		this.statistics = statistics;
+	}
+
+	@Override
+	protected Object invokeService(Method method, Object[] args)
+			throws Throwable {
+		CompressionStatistics previous = CompressionStatistics
+				.makeCurrent(statistics);
+		try {
+			return proceed(method, args);
+		} finally {
+			CompressionStatistics.makeCurrent(previous);
+		}
+	}
+}
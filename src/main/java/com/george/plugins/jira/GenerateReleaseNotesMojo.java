@@ -3,12 +3,14 @@ package com.george.plugins.jira;
 import static java.text.MessageFormat.format;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
+import java.nio.charset.Charset;
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
 
 import com.atlassian.jira.rpc.soap.client.JiraSoapService;
@@ -27,6 +29,11 @@ import com.atlassian.jira.rpc.soap.client.RemoteIssue;
  */
 public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 
+	/**
+	 * Issues per search when reading a whole project for local JQL
+	 */
+	private static final int PROJECT_PAGE_SIZE = 500;
+
 	/**
 	 * JQL Template to generate release notes. Parameter 0 = Project Key
 	 * Parameter 1 = Fix version
@@ -37,8 +44,15 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 	String jqlTemplate = "project = ''{0}'' AND status in (Resolved, Closed) AND fixVersion = ''{1}''";
 
 	/**
-	 * Template used on each issue found by JQL Template. Parameter 0 = Issue
-	 * Key Parameter 1 = Issue Summary
+	 * Template used on each issue found by JQL Template, with named fields
+	 * such as {key}, {summary}, {type}, {status}, {priority}, {resolution},
+	 * {assignee}, {reporter}, {components}, {fixVersions}, {affectsVersions},
+	 * {created}, {updated} or {customfield_10010}. Parameter 0 = Issue Key
+	 * Parameter 1 = Issue Summary Parameter 2 = Issue Type Parameter 3 =
+	 * Status Parameter 4 = Priority Parameter 5 = Resolution are still
+	 * accepted, printing "null" when missing as before; named fields print
+	 * nothing. A field may have a MessageFormat type and style, such as
+	 * {created,date,long} or {0,number}, applied to that field alone.
 	 * 
 	 * @parameter expression="${issueTemplate}"
 	 * @required
@@ -53,6 +67,64 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 	 */
 	int maxIssues = 100;
 
+	/**
+	 * Reads all the issues found, in pages of this many issues written as
+	 * they arrive, instead of at most <code>maxIssues</code>. The JQL must
+	 * be limited to one project, by <code>project =</code> and conditions on
+	 * status, fix version or issue type only, or the build fails; its
+	 * ordering is replaced by the issue key. Paging takes precedence over
+	 * <code>localJql</code> and <code>issueStore</code>. 0 disables paging.
+	 * 
+	 * @parameter expression="${jiraPageSize}" default-value="0"
+	 */
+	int pageSize;
+
+	/**
+	 * Splits the search into partitions run at the same time, up to
+	 * <code>jiraClientThreads</code>: <code>type</code> by issue type,
+	 * <code>component</code> by component of the project, or
+	 * <code>created</code> by creation date ranges. Issues are listed by key.
+	 * 
+	 * @parameter expression="${jiraPartitionBy}"
+	 */
+	String partitionBy;
+
+	/**
+	 * Number of creation date ranges searched when partitioning by
+	 * <code>created</code>
+	 * 
+	 * @parameter expression="${jiraCreatedPartitions}" default-value="8"
+	 */
+	int createdPartitions = 8;
+
+	/**
+	 * Keeps the issues found in a local store, so later builds only download
+	 * the issues updated since.
+	 * 
+	 * @parameter expression="${jiraIssueStore}" default-value="false"
+	 */
+	boolean issueStore;
+
+	/**
+	 * Answers simple JQL queries, conjunctions of <code>=</code> and
+	 * <code>in</code> conditions on one project, status, fixVersion and
+	 * issue type, from all the issues of the project, read page by page and
+	 * kept in memory for the rest of the build. Other queries, queries
+	 * matching more than <code>maxIssues</code> issues, and projects whose
+	 * issues could not all be read, are sent to JIRA.
+	 * 
+	 * @parameter expression="${jiraLocalJql}" default-value="false"
+	 */
+	boolean localJql;
+
+	/**
+	 * Max number of issues of a project answering JQL queries locally. Larger
+	 * projects are searched by JIRA, as soon as their pages add up to more.
+	 * 
+	 * @parameter expression="${jiraProjectMaxIssues}" default-value="5000"
+	 */
+	int projectMaxIssues = 5000;
+
 	/**
 	 * Released Version
 	 * 
@@ -71,6 +143,42 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 	 */
 	File targetFile;
 
+	/**
+	 * Encoding of the target file, and of the other formats but JSON
+	 * 
+	 * @parameter expression="${jiraReleaseNotesEncoding}"
+	 *            default-value="Cp1252"
+	 */
+	String encoding = "Cp1252";
+
+	/**
+	 * Line endings of the target file: <code>lf</code>, <code>crlf</code> or
+	 * <code>system</code> for the ones of the platform
+	 * 
+	 * @parameter expression="${jiraReleaseNotesLineEndings}"
+	 *            default-value="system"
+	 */
+	String lineEndings = "system";
+
+	/**
+	 * Adds the release notes after the current content of the target file,
+	 * instead of replacing it
+	 * 
+	 * @parameter expression="${jiraAppendReleaseNotes}" default-value="false"
+	 */
+	boolean appendToTargetFile;
+
+	/**
+	 * Formats written in one pass over the issues, separated by commas:
+	 * <code>text</code> to the target file, <code>markdown</code>,
+	 * <code>html</code> and <code>json</code> next to it with the extension
+	 * of the format, such as <code>releaseNotes.md</code>. A format listed
+	 * twice is written once. JSON is always encoded in UTF-8.
+	 * 
+	 * @parameter expression="${jiraReleaseNotesFormats}" default-value="text"
+	 */
+	String formats = "text";
+
 	/**
 	 * Text to be appended BEFORE all issues details.
 	 * 
@@ -85,11 +193,70 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 	 */
 	String afterText;
 
+	private transient IssueTemplate compiledIssueTemplate;
+
 	@Override
 	public void doExecute(JiraSoapService jiraService, String loginToken)
 			throws Exception {
+		if (pageSize > 0) {
+			checkPagedQuery();
+		}
+		if (partitionBy != null && partitionBy.length() > 0) {
+			JiraClient client = createJiraClient(jiraService, loginToken);
+			RemoteIssue[] issues = searchPartitions(client, jiraService,
+					loginToken);
+			output(issues, usesConstantNames() ? IssueConstants.load(client)
+					: null);
+			return;
+		}
+		if (pageSize > 0) {
+			outputPages(jiraService, loginToken);
+			return;
+		}
 		RemoteIssue[] issues = getIssues(jiraService, loginToken);
-		output(issues);
+		IssueConstants constants = null;
+		if (issues != null && usesConstantNames()) {
+			constants = IssueConstants.load(createJiraClient(jiraService,
+					loginToken));
+		}
+		output(issues, constants);
+	}
+
+	/**
+	 * Checks that the query can be paged
+	 * 
+	 * @throws MojoFailureException
+	 *             if it is not limited to one project
+	 */
+	void checkPagedQuery() throws MojoFailureException {
+		try {
+			IssuePager.checkProject(format(jqlTemplate, jiraProjectKey,
+					releaseVersion));
+		} catch (IllegalArgumentException e) {
+			throw new MojoFailureException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns if the issue template prints the names of issue types,
+	 * statuses, priorities or resolutions
+	 * 
+	 * @return
+	 */
+	boolean usesConstantNames() {
+		return getIssueTemplate().usesConstantNames();
+	}
+
+	/**
+	 * Returns the issue template, compiled on first use
+	 * 
+	 * @return
+	 */
+	IssueTemplate getIssueTemplate() {
+		if (compiledIssueTemplate == null) {
+			compiledIssueTemplate = IssueTemplate.compile(issueTemplate);
+		}
+		return compiledIssueTemplate;
 	}
 
 	/**
@@ -109,20 +276,203 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 		if (log.isInfoEnabled()) {
 			log.info("JQL: " + jql);
 		}
-		RemoteIssue[] issues = jiraService.getIssuesFromJqlSearch(loginToken,
-				jql, maxIssues);
+		NegativeCache missing = getNegativeCache();
+		String missingKey = NegativeCache.searchKey(jql);
+		if (!offline && missing.contains(missingKey)) {
+			log.info("Issues: 0, known to be none in JIRA");
+			return new RemoteIssue[0];
+		}
+		RemoteIssue[] issues = null;
+		if (localJql && !offline) {
+			issues = searchLocally(jiraService, loginToken, jql);
+		}
+		if (issues == null && issueStore && !offline) {
+			try {
+				issues = IssueSync.search(jiraService, loginToken,
+						getIssueStore(), jql, maxIssues, log);
+			} catch (IOException e) {
+				log.warn("JIRA issue store unavailable: " + e.getMessage());
+			}
+		}
+		if (issues != null) {
+			// Found without the search itself, which offline builds read
+			recordSearch(jql, maxIssues, issues);
+		} else {
+			issues = jiraService.getIssuesFromJqlSearch(loginToken, jql,
+					maxIssues);
+		}
+		if (issues.length == 0 && !offline) {
+			missing.add(missingKey);
+		}
 		if (log.isInfoEnabled()) {
 			log.info("Issues: " + issues.length);
 		}
 		return issues;
 	}
 
+	/**
+	 * Searches JIRA with concurrent partitions of the query
+	 * 
+	 * @param client
+	 * @param jiraService
+	 * @param loginToken
+	 * @return
+	 * @throws RemoteException
+	 */
+	RemoteIssue[] searchPartitions(JiraClient client,
+			JiraSoapService jiraService, String loginToken)
+			throws RemoteException {
+		Log log = getLog();
+		String jql = format(jqlTemplate, jiraProjectKey, releaseVersion);
+		if (log.isInfoEnabled()) {
+			log.info("JQL: " + jql + ", partitioned by " + partitionBy);
+		}
+		List<String> partitions = PartitionedSearch.partitions(client,
+				IssueSync.unordered(jql), partitionBy, jiraProjectKey,
+				createdPartitions);
+		return PartitionedSearch.search(client, jiraService, loginToken, jql,
+				partitions, maxIssues, pageSize, log);
+	}
+
+	/**
+	 * Answers the query from the issues of its project, if within the subset
+	 * of JQL supported locally
+	 * 
+	 * @param jiraService
+	 * @param loginToken
+	 * @param jql
+	 * @return the issues, or <code>null</code> if JIRA must be searched
+	 * @throws RemoteException
+	 */
+	RemoteIssue[] searchLocally(JiraSoapService jiraService,
+			String loginToken, String jql) throws RemoteException {
+		Log log = getLog();
+		JqlQuery query = JqlQuery.parse(jql);
+		String project = (query == null) ? null : query.getProject();
+		if (project == null) {
+			log.debug("JQL not supported locally, searching JIRA");
+			return null;
+		}
+		String key = discoverJiraWSURL() + '\n' + jiraUser + '\n' + project;
+		LocalIssueIndex index = LocalIssueIndex.get(session, key);
+		if (index == null) {
+			RemoteIssue[] all = searchProject(jiraService, loginToken, project);
+			if (all == null) {
+				return null;
+			}
+			index = new LocalIssueIndex(all, IssueConstants
+					.load(createJiraClient(jiraService, loginToken)));
+			LocalIssueIndex.put(session, key, index);
+		}
+		RemoteIssue[] issues = index.search(query, maxIssues);
+		if (issues == null) {
+			log.info("More than " + maxIssues + " issues match, searching JIRA");
+			return null;
+		}
+		log.info("JQL answered locally");
+		return issues;
+	}
+
+	/**
+	 * Reads all the issues of a project, page by page until JIRA returns an
+	 * empty one, which proves none was left out
+	 * 
+	 * @param jiraService
+	 * @param loginToken
+	 * @param project
+	 * @return the issues, or <code>null</code> if they could not all be read
+	 */
+	private RemoteIssue[] searchProject(JiraSoapService jiraService,
+			String loginToken, final String project) {
+		final Log log = getLog();
+		final List<RemoteIssue> all = new ArrayList<RemoteIssue>();
+		JiraSnapshotDecorator.pauseRecording();
+		try {
+			IssuePager.search(jiraService, loginToken, "project = \""
+					+ project.replace("\\", "\\\\").replace("\"", "\\\"")
+					+ "\"", PROJECT_PAGE_SIZE, new IssuePager.PageHandler() {
+				public void handle(RemoteIssue[] page) throws IOException {
+					all.addAll(Arrays.asList(page));
+					if (all.size() > projectMaxIssues) {
+						throw new IOException("Project " + project
+								+ " has more than " + projectMaxIssues
+								+ " issues");
+					}
+				}
+			}, log);
+		} catch (RemoteException e) {
+			log.warn("Issues of project " + project + " not all read, "
+					+ "searching JIRA: " + e.getMessage());
+			return null;
+		} catch (IOException e) {
+			log.info(e.getMessage() + ", searching JIRA");
+			return null;
+		} finally {
+			JiraSnapshotDecorator.resumeRecording();
+		}
+		return all.toArray(new RemoteIssue[all.size()]);
+	}
+
+	/**
+	 * Returns the local issue store of the JIRA user
+	 * 
+	 * @return
+	 */
+	IssueStore getIssueStore() {
+		return IssueStore.forFile(new File(getMetadataCacheDirectory(),
+				IssueStore.fileName(discoverJiraWSURL(), jiraUser)));
+	}
+
+	/**
+	 * Writes the issues page by page as they are read from JIRA
+	 * 
+	 * @param jiraService
+	 * @param loginToken
+	 * @throws Exception
+	 */
+	void outputPages(JiraSoapService jiraService, String loginToken)
+			throws Exception {
+		Log log = getLog();
+		if (targetFile == null) {
+			log.warn("No targetFile specified. Ignoring");
+			return;
+		}
+		final IssueConstants constants = usesConstantNames() ? IssueConstants
+				.load(createJiraClient(jiraService, loginToken)) : null;
+		String jql = format(jqlTemplate, jiraProjectKey, releaseVersion);
+		if (log.isInfoEnabled()) {
+			log.info("JQL: " + jql + ", " + pageSize + " issues per page");
+		}
+		final ReleaseNotes notes = openOutput();
+		try {
+			notes.begin(releaseVersion, beforeText);
+			IssuePager.search(jiraService, loginToken, jql, pageSize,
+					new IssuePager.PageHandler() {
+						public void handle(RemoteIssue[] page)
+								throws IOException {
+							notes.add(page, constants);
+						}
+					}, log);
+			notes.end(afterText);
+			notes.commit();
+		} finally {
+			notes.abort();
+		}
+		if (log.isInfoEnabled()) {
+			log.info("Issues: " + notes.size());
+		}
+	}
+
 	/**
 	 * Writes issues to output
 	 * 
 	 * @param issues
+	 * @param constants
+	 *            names of the issue constants, <code>null</code> if the issue
+	 *            template does not print them
 	 */
-	void output(RemoteIssue[] issues) throws IOException {
+	void output(RemoteIssue[] issues, IssueConstants constants)
+			throws IOException {
 		Log log = getLog();
 		if (targetFile == null) {
 			log.warn("No targetFile specified. Ignoring");
@@ -132,25 +482,39 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 			log.warn("No issues found. File will not be generated.");
 			return;
 		}
-		OutputStreamWriter writer = new OutputStreamWriter(
-				new FileOutputStream(targetFile, true), "Cp1252");
-		PrintWriter ps = new PrintWriter(writer);
+		ReleaseNotes notes = openOutput();
 		try {
-			if (beforeText != null) {
-				ps.println(beforeText);
-			}
-			for (RemoteIssue issue : issues) {
-				String issueDesc = format(issueTemplate, issue.getKey(),
-						issue.getSummary());
-				ps.println(issueDesc);
-			}
-			if (afterText != null) {
-				ps.println(afterText);
-			}
+			notes.begin(releaseVersion, beforeText);
+			notes.add(issues, constants);
+			notes.end(afterText);
+			notes.commit();
 		} finally {
-			ps.flush();
-			ps.close();
+			notes.abort();
+		}
+	}
+
+	/**
+	 * Starts the notes in every format, replacing the target files once
+	 * committed
+	 * 
+	 * @return
+	 * @throws IOException
+	 */
+	ReleaseNotes openOutput() throws IOException {
+		Charset charset = Charset.forName(encoding);
+		String lineSeparator = ReleaseNotesWriter.lineSeparatorOf(lineEndings);
+		List<ReleaseNotesFormat> files = new ArrayList<ReleaseNotesFormat>();
+		try {
+			for (String format : ReleaseNotesFormat.namesOf(formats)) {
+				files.add(ReleaseNotesFormat.open(format, ReleaseNotesFormat
+						.targetOf(format, targetFile), charset, lineSeparator,
+						appendToTargetFile));
+			}
+		} catch (IOException e) {
+			new ReleaseNotes(files, null).abort();
+			throw e;
 		}
+		return new ReleaseNotes(files, getIssueTemplate());
 	}
 
 	public void setAfterText(String afterText) {
@@ -167,6 +531,7 @@ public class GenerateReleaseNotesMojo extends AbstractJiraMojo {
 
 	public void setIssueTemplate(String issueTemplate) {
 		this.issueTemplate = issueTemplate;
+		this.compiledIssueTemplate = null;
 	}
 
 	public void setJqlTemplate(String jqlTemplate) {
@@ -0,0 +1,169 @@
+package com.george.plugins.jira;
+
+import java.rmi.RemoteException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import com.atlassian.jira.rpc.soap.client.AbstractNamedRemoteEntity;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemotePriority;
+import com.atlassian.jira.rpc.soap.client.RemoteResolution;
+import com.atlassian.jira.rpc.soap.client.RemoteStatus;
+
+/**
+ * Names of the issue types, statuses, priorities and resolutions of a JIRA
+ * installation.
+ *
+ * <code>RemoteIssue</code> only carries the IDs of these constants. They are
+ * all fetched at once, in five concurrent calls since JIRA lists sub-task
+ * types apart from the other issue types, and kept in tables sorted by
+ * numeric ID, so naming any number of issues costs no further call.
+ *
+ */
+final class IssueConstants {
+
+	private final IdTable types;
+	private final IdTable statuses;
+	private final IdTable priorities;
+	private final IdTable resolutions;
+
+	IssueConstants(RemoteIssueType[] types, RemoteStatus[] statuses,
+			RemotePriority[] priorities, RemoteResolution[] resolutions) {
+		this.types = new IdTable(types);
+		this.statuses = new IdTable(statuses);
+		this.priorities = new IdTable(priorities);
+		this.resolutions = new IdTable(resolutions);
+	}
+
+	/**
+	 * Fetches the constants of the JIRA installation
+	 *
+	 * @param client
+	 * @return
+	 * @throws RemoteException
+	 *             the first failure found
+	 */
+	static IssueConstants load(JiraClient client) throws RemoteException {
+		Future<RemoteIssueType[]> types = client.getIssueTypes();
+		Future<RemoteIssueType[]> subTaskTypes = client.getSubTaskIssueTypes();
+		Future<RemoteStatus[]> statuses = client.getStatuses();
+		Future<RemotePriority[]> priorities = client.getPriorities();
+		Future<RemoteResolution[]> resolutions = client.getResolutions();
+		try {
+			return new IssueConstants(concat(JiraClient.await(types),
+					JiraClient.await(subTaskTypes)), JiraClient.await(statuses),
+					JiraClient.await(priorities), JiraClient.await(resolutions));
+		} finally {
+			types.cancel(true);
+			subTaskTypes.cancel(true);
+			statuses.cancel(true);
+			priorities.cancel(true);
+			resolutions.cancel(true);
+		}
+	}
+
+	private static RemoteIssueType[] concat(RemoteIssueType[] types,
+			RemoteIssueType[] subTaskTypes) {
+		if (subTaskTypes == null || subTaskTypes.length == 0) {
+			return types;
+		}
+		if (types == null) {
+			return subTaskTypes;
+		}
+		RemoteIssueType[] all = new RemoteIssueType[types.length
+				+ subTaskTypes.length];
+		System.arraycopy(types, 0, all, 0, types.length);
+		System.arraycopy(subTaskTypes, 0, all, types.length,
+				subTaskTypes.length);
+		return all;
+	}
+
+	String typeOf(RemoteIssue issue) {
+		return types.nameOf(issue.getType());
+	}
+
+	String statusOf(RemoteIssue issue) {
+		return statuses.nameOf(issue.getStatus());
+	}
+
+	String priorityOf(RemoteIssue issue) {
+		return priorities.nameOf(issue.getPriority());
+	}
+
+	String resolutionOf(RemoteIssue issue) {
+		return resolutions.nameOf(issue.getResolution());
+	}
+
+	/**
+	 * Names by ID. Numeric IDs, as JIRA assigns them, are looked up by binary
+	 * search in parallel arrays, any other ID in a map.
+	 */
+	private static final class IdTable {
+
+		private final int[] ids;
+		private final String[] names;
+		private final Map<String, String> others = new HashMap<String, String>();
+
+		IdTable(AbstractNamedRemoteEntity[] constants) {
+			int count = 0;
+			long[] sorted = new long[(constants == null) ? 0 : constants.length];
+			for (int i = 0; i < sorted.length; i++) {
+				String id = constants[i].getId();
+				int numeric = parseId(id);
+				if (numeric < 0) {
+					others.put(id, constants[i].getName());
+				} else {
+					// ID in the high bits, position in the low bits
+					sorted[count++] = ((long) numeric << 32) | i;
+				}
+			}
+			Arrays.sort(sorted, 0, count);
+			ids = new int[count];
+			names = new String[count];
+			for (int i = 0; i < count; i++) {
+				ids[i] = (int) (sorted[i] >>> 32);
+				names[i] = constants[(int) sorted[i]].getName();
+			}
+		}
+
+		/**
+		 * Returns the name of the ID, or the ID itself if unknown
+		 */
+		String nameOf(String id) {
+			if (id == null) {
+				return null;
+			}
+			int numeric = parseId(id);
+			String name;
+			if (numeric < 0) {
+				name = others.get(id);
+			} else {
+				int i = Arrays.binarySearch(ids, numeric);
+				name = (i < 0) ? null : names[i];
+			}
+			return (name == null) ? id : name;
+		}
+
+		/**
+		 * Returns the ID as a number, or -1 if it is not a plain positive
+		 * number
+		 */
+		private static int parseId(String id) {
+			if (id == null || id.length() == 0 || id.length() > 9) {
+				return -1;
+			}
+			int value = 0;
+			for (int i = 0; i < id.length(); i++) {
+				char c = id.charAt(i);
+				if (c < '0' || c > '9') {
+					return -1;
+				}
+				value = value * 10 + (c - '0');
+			}
+			return value;
+		}
+	}
+}
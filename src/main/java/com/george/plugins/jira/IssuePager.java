@@ -0,0 +1,133 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.rmi.RemoteException;
+
+import org.apache.maven.plugin.logging.Log;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * Walks the whole result of a JQL search in pages of a fixed size, instead
+ * of the single search capped at <code>maxIssues</code>.
+ *
+ * The SOAP API has no offset, so pages are key ranges: the search is sorted
+ * by key and each page asks for the keys after the last one received, as in
+ *
+ * <pre>
+ * (project = 'KEY' AND fixVersion = '1.0') AND issuekey > "KEY-1234" ORDER BY issuekey ASC
+ * </pre>
+ *
+ * JIRA compares issue keys within a project, so the search must be limited
+ * to one project, as {@link JqlQuery#getProject} tells, and is refused
+ * otherwise. The walk ends on an empty page only, since JIRA may return
+ * fewer issues than asked for, capping searches on the server. Each page is
+ * handed over as soon as it arrives, so only one page is in memory at a
+ * time.
+ *
+ */
+final class IssuePager {
+
+	private IssuePager() {
+	}
+
+	/**
+	 * Receives the pages of a search
+	 */
+	interface PageHandler {
+
+		void handle(RemoteIssue[] page) throws IOException;
+	}
+
+	/**
+	 * Runs the search, page by page
+	 *
+	 * @param jiraService
+	 * @param loginToken
+	 * @param jql
+	 * @param pageSize
+	 *            issues per search
+	 * @param handler
+	 * @param log
+	 * @return the number of issues found
+	 * @throws RemoteException
+	 * @throws IOException
+	 *             if the handler failed
+	 * @throws IllegalArgumentException
+	 *             if the search is not limited to one project
+	 */
+	static int search(JiraSoapService jiraService, String loginToken,
+			String jql, int pageSize, PageHandler handler, Log log)
+			throws RemoteException, IOException {
+		return search(jiraService, loginToken, jql, null, pageSize, handler,
+				log);
+	}
+
+	/**
+	 * Runs part of a search, page by page
+	 *
+	 * @param jiraService
+	 * @param loginToken
+	 * @param jql
+	 *            the search, limited to one project
+	 * @param condition
+	 *            added to the search, <code>null</code> if none
+	 * @param pageSize
+	 *            issues per search
+	 * @param handler
+	 * @param log
+	 * @return the number of issues found
+	 * @throws RemoteException
+	 * @throws IOException
+	 *             if the handler failed
+	 * @throws IllegalArgumentException
+	 *             if the search is not limited to one project
+	 */
+	static int search(JiraSoapService jiraService, String loginToken,
+			String jql, String condition, int pageSize, PageHandler handler,
+			Log log) throws RemoteException, IOException {
+		checkProject(jql);
+		String unordered = IssueSync.unordered(jql);
+		if (condition != null) {
+			unordered = IssueSync.restrict(unordered, condition);
+		}
+		String lastKey = null;
+		int total = 0;
+		while (true) {
+			String page = (lastKey == null) ? unordered : IssueSync.restrict(
+					unordered, "issuekey > \"" + lastKey + "\"");
+			RemoteIssue[] issues = jiraService.getIssuesFromJqlSearch(
+					loginToken, page + " ORDER BY issuekey ASC", pageSize);
+			if (issues == null || issues.length == 0) {
+				return total;
+			}
+			handler.handle(issues);
+			total += issues.length;
+			if (log.isDebugEnabled()) {
+				log.debug(total + " issues read");
+			}
+			String key = issues[issues.length - 1].getKey();
+			if (key == null || key.equals(lastKey)) {
+				return total;
+			}
+			lastKey = key;
+		}
+	}
+
+	/**
+	 * Checks that a search is limited to one project
+	 *
+	 * @param jql
+	 * @throws IllegalArgumentException
+	 *             if it may span several projects
+	 */
+	static void checkProject(String jql) {
+		JqlQuery query = JqlQuery.parse(IssueSync.unordered(jql));
+		if (query == null || query.getProject() == null) {
+			throw new IllegalArgumentException("Paged searches must be limited"
+					+ " to one project, with project = and conditions on"
+					+ " status, fixVersion or type only: " + jql);
+		}
+	}
+}
@@ -0,0 +1,596 @@
+package com.george.plugins.jira;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileLock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * JIRA issues kept on disk between builds.
+ *
+ * The file is an append-only log of records: issues, encoded with
+ * {@link JiraBeanCodec}, and the results of the searches synchronized so
+ * far. An index from issue key and search to the offset of their latest
+ * record is built when the file is first read. An issue is only appended if
+ * it was updated in JIRA after the stored one, and the file is compacted,
+ * through a temporary file renamed over it, once superseded records take
+ * more room than live ones. One instance is shared per file by all the
+ * executions of the JVM.
+ *
+ * Builds sharing the directory, such as the ones of a CI agent, share the
+ * file too: every operation holds a {@link FileLock} on a lock file next to
+ * it, and the index is built again whenever the length or modification time
+ * of the file differs from the ones this instance last saw. Each record read
+ * is checked against the key asked for anyway.
+ *
+ */
+class IssueStore {
+
+	/**
+	 * "JIS" followed by the format version
+	 */
+	private static final int MAGIC = 0x4A495301;
+
+	private static final byte ISSUE = 1;
+	private static final byte SEARCH = 2;
+
+	/**
+	 * Superseded bytes tolerated before compacting
+	 */
+	private static final long COMPACTION_SLACK = 64 * 1024;
+
+	private static final ConcurrentMap<File, IssueStore> STORES = new ConcurrentHashMap<File, IssueStore>();
+
+	/**
+	 * Held with the file lock, which only excludes other processes
+	 */
+	private static final Object LOCK = new Object();
+
+	private final File file;
+	private Map<String, Slot> issues;
+	private Map<String, Slot> searches;
+	private long length;
+	private long lastModified;
+	private long liveBytes;
+
+	IssueStore(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns the store kept in the given file
+	 *
+	 * @param file
+	 * @return
+	 */
+	static IssueStore forFile(File file) {
+		File key = file.getAbsoluteFile();
+		IssueStore store = STORES.get(key);
+		if (store == null) {
+			store = new IssueStore(key);
+			IssueStore existing = STORES.putIfAbsent(key, store);
+			if (existing != null) {
+				store = existing;
+			}
+		}
+		return store;
+	}
+
+	/**
+	 * Returns the file name used for the issues of a JIRA user
+	 *
+	 * @param jiraURL
+	 * @param user
+	 * @return
+	 */
+	static String fileName(String jiraURL, String user) {
+		return MetadataCache.baseName(jiraURL, user) + "-issues.log";
+	}
+
+	/**
+	 * Stores the issues updated in JIRA after the stored ones
+	 *
+	 * @param updates
+	 * @return the number of issues stored
+	 * @throws IOException
+	 */
+	int upsert(RemoteIssue[] updates) throws IOException {
+		synchronized (LOCK) {
+			RandomAccessFile lock = lock();
+			try {
+				index();
+				return upsertIssues(updates);
+			} finally {
+				lock.close();
+			}
+		}
+	}
+
+	private int upsertIssues(RemoteIssue[] updates) throws IOException {
+		List<byte[]> records = new ArrayList<byte[]>();
+		List<Slot> slots = new ArrayList<Slot>();
+		Map<String, Slot> pending = new HashMap<String, Slot>();
+		for (RemoteIssue issue : updates) {
+			long updated = updatedOf(issue);
+			Slot stored = pending.get(issue.getKey());
+			if (stored == null) {
+				stored = issues.get(issue.getKey());
+			}
+			if (issue.getKey() == null
+					|| (stored != null && stored.updated >= updated)) {
+				continue;
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+			DataOutputStream out = new DataOutputStream(bytes);
+			JiraBeanCodec.writeString(out, issue.getKey());
+			out.writeLong(updated);
+			JiraBeanCodec.writeIssue(out, issue);
+			Slot slot = new Slot(issue.getKey(), updated);
+			records.add(bytes.toByteArray());
+			slots.add(slot);
+			pending.put(slot.name, slot);
+		}
+		append(ISSUE, records, slots, issues);
+		return records.size();
+	}
+
+	/**
+	 * Returns the stored issues of the given keys, in the same order
+	 *
+	 * @param keys
+	 * @return the issues, or <code>null</code> if any is missing
+	 * @throws IOException
+	 */
+	RemoteIssue[] get(Collection<String> keys) throws IOException {
+		synchronized (LOCK) {
+			RandomAccessFile lock = lock();
+			try {
+				index();
+				try {
+					return readIssues(keys);
+				} catch (StaleIndexException e) {
+					issues = null;
+					index();
+				}
+				try {
+					return readIssues(keys);
+				} catch (StaleIndexException e) {
+					return null;
+				}
+			} finally {
+				lock.close();
+			}
+		}
+	}
+
+	private RemoteIssue[] readIssues(Collection<String> keys)
+			throws IOException {
+		RemoteIssue[] found = new RemoteIssue[keys.size()];
+		if (found.length == 0) {
+			return found;
+		}
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			int i = 0;
+			for (String key : keys) {
+				Slot slot = issues.get(key);
+				if (slot == null) {
+					return null;
+				}
+				DataInputStream record = new DataInputStream(
+						new ByteArrayInputStream(read(in, slot)));
+				if (!key.equals(JiraBeanCodec.readString(record))) {
+					throw new StaleIndexException();
+				}
+				record.readLong();
+				found[i++] = JiraBeanCodec.readIssue(record);
+			}
+		} finally {
+			in.close();
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the last synchronization of a search
+	 *
+	 * @param query
+	 * @return the synchronization, or <code>null</code> if never done
+	 * @throws IOException
+	 */
+	Search getSearch(String query) throws IOException {
+		synchronized (LOCK) {
+			RandomAccessFile lock = lock();
+			try {
+				index();
+				Slot slot = searches.get(query);
+				if (slot == null) {
+					return null;
+				}
+				RandomAccessFile in = new RandomAccessFile(file, "r");
+				try {
+					return readSearch(query, new DataInputStream(
+							new ByteArrayInputStream(read(in, slot))));
+				} catch (StaleIndexException e) {
+					issues = null;
+					return null;
+				} finally {
+					in.close();
+				}
+			} finally {
+				lock.close();
+			}
+		}
+	}
+
+	/**
+	 * Records the keys of the issues a search found, all of them already
+	 * stored, then compacts the file if needed
+	 *
+	 * @param query
+	 * @param syncedAt
+	 *            time the synchronization started
+	 * @param keys
+	 * @throws IOException
+	 */
+	void putSearch(String query, long syncedAt, Collection<String> keys)
+			throws IOException {
+		synchronized (LOCK) {
+			RandomAccessFile lock = lock();
+			try {
+				index();
+				putSearchKeys(query, syncedAt, keys);
+			} finally {
+				lock.close();
+			}
+		}
+	}
+
+	private void putSearchKeys(String query, long syncedAt,
+			Collection<String> keys) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		JiraBeanCodec.writeString(out, query);
+		out.writeLong(syncedAt);
+		out.writeInt(keys.size());
+		for (String key : keys) {
+			JiraBeanCodec.writeString(out, key);
+		}
+		append(SEARCH, Collections.singletonList(bytes.toByteArray()),
+				Collections.singletonList(new Slot(query, syncedAt)), searches);
+		if (length - liveBytes > Math.max(liveBytes, COMPACTION_SLACK)) {
+			try {
+				rewrite();
+			} catch (IOException e) {
+				// The log stays as is until the next synchronization
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of issues stored
+	 *
+	 * @return
+	 * @throws IOException
+	 */
+	int size() throws IOException {
+		synchronized (LOCK) {
+			RandomAccessFile lock = lock();
+			try {
+				index();
+				return issues.size();
+			} finally {
+				lock.close();
+			}
+		}
+	}
+
+	/**
+	 * Rewrites the file with the latest record of each issue and search only
+	 *
+	 * @throws IOException
+	 */
+	void compact() throws IOException {
+		synchronized (LOCK) {
+			RandomAccessFile lock = lock();
+			try {
+				index();
+				rewrite();
+			} finally {
+				lock.close();
+			}
+		}
+	}
+
+	private void rewrite() throws IOException {
+		List<Slot> live = new ArrayList<Slot>(issues.size() + searches.size());
+		live.addAll(issues.values());
+		live.addAll(searches.values());
+		Slot[] slots = live.toArray(new Slot[live.size()]);
+		// Sequential reads, in the order the records were appended
+		Arrays.sort(slots);
+		File tmp = File.createTempFile(file.getName() + ".", ".tmp", file
+				.getParentFile());
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(tmp)));
+		long position = 4;
+		try {
+			out.writeInt(MAGIC);
+			for (Slot slot : slots) {
+				byte[] record = read(in, slot);
+				out.writeByte(slot.type);
+				out.writeInt(record.length);
+				out.write(record);
+				slot.offset = position + 5;
+				position += 5 + record.length;
+			}
+		} catch (IOException e) {
+			// Offsets were already moved: index the file again when needed
+			issues = null;
+			out.close();
+			tmp.delete();
+			throw e;
+		} finally {
+			out.close();
+			in.close();
+		}
+		if (!tmp.renameTo(file) && !(file.delete() && tmp.renameTo(file))) {
+			tmp.delete();
+			issues = null;
+			throw new IOException("Cannot replace " + file);
+		}
+		length = position;
+		lastModified = file.lastModified();
+		liveBytes = position;
+	}
+
+	/**
+	 * Locks the file against other processes, until the returned file is
+	 * closed
+	 */
+	private RandomAccessFile lock() throws IOException {
+		File dir = file.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Cannot create " + dir);
+		}
+		RandomAccessFile lock = new RandomAccessFile(new File(dir, file
+				.getName()
+				+ ".lock"), "rw");
+		try {
+			lock.getChannel().lock();
+		} catch (IOException e) {
+			lock.close();
+			throw e;
+		}
+		return lock;
+	}
+
+	private void append(byte type, List<byte[]> records, List<Slot> slots,
+			Map<String, Slot> index) throws IOException {
+		if (records.isEmpty()) {
+			return;
+		}
+		boolean created = (length == 0);
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+				new FileOutputStream(file, !created)));
+		long position = length;
+		try {
+			if (created) {
+				out.writeInt(MAGIC);
+				position = 4;
+			}
+			for (int i = 0; i < records.size(); i++) {
+				byte[] record = records.get(i);
+				out.writeByte(type);
+				out.writeInt(record.length);
+				out.write(record);
+				Slot slot = slots.get(i);
+				slot.type = type;
+				slot.offset = position + 5;
+				slot.length = record.length;
+				position += 5 + record.length;
+			}
+		} catch (IOException e) {
+			// Records appended partially are dropped when the file is read
+			issues = null;
+			throw e;
+		} finally {
+			out.close();
+		}
+		length = position;
+		lastModified = file.lastModified();
+		for (Slot slot : slots) {
+			Slot superseded = index.put(slot.name, slot);
+			if (superseded != null) {
+				liveBytes -= 5 + superseded.length;
+			}
+			liveBytes += 5 + slot.length;
+		}
+	}
+
+	/**
+	 * Reads the file, if not done yet or changed by another process since. A
+	 * file that cannot be read is discarded.
+	 */
+	private void index() throws IOException {
+		if (issues != null && file.length() == length
+				&& file.lastModified() == lastModified) {
+			return;
+		}
+		issues = new HashMap<String, Slot>();
+		searches = new HashMap<String, Slot>();
+		length = 0;
+		lastModified = 0;
+		liveBytes = 0;
+		if (!file.isFile()) {
+			return;
+		}
+		if (file.length() < 4) {
+			// Not even the header was written
+			file.delete();
+			return;
+		}
+		try {
+			load();
+		} catch (IOException e) {
+			issues.clear();
+			searches.clear();
+			length = 0;
+			liveBytes = 0;
+			if (!file.delete()) {
+				issues = null;
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Indexes the records of the file, dropping any record left incomplete
+	 * by an interrupted build
+	 */
+	private void load() throws IOException {
+		long fileLength = file.length();
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(file)));
+		long position = 4;
+		try {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Unknown format of " + file);
+			}
+			while (true) {
+				byte type = in.readByte();
+				int size = in.readInt();
+				if (size < 0 || position + 5 + size > fileLength) {
+					break;
+				}
+				byte[] record = new byte[size];
+				in.readFully(record);
+				DataInputStream fields = new DataInputStream(
+						new ByteArrayInputStream(record));
+				Slot slot = new Slot(JiraBeanCodec.readString(fields),
+						fields.readLong());
+				slot.type = type;
+				slot.offset = position + 5;
+				slot.length = size;
+				Map<String, Slot> index = (type == ISSUE) ? issues : searches;
+				Slot superseded = index.put(slot.name, slot);
+				if (superseded != null) {
+					liveBytes -= 5 + superseded.length;
+				}
+				liveBytes += 5 + size;
+				position += 5 + size;
+			}
+		} catch (EOFException e) {
+			// End of the log
+		} finally {
+			in.close();
+		}
+		length = position;
+		if (fileLength > length) {
+			RandomAccessFile out = new RandomAccessFile(file, "rw");
+			try {
+				out.setLength(length);
+			} finally {
+				out.close();
+			}
+		}
+		lastModified = file.lastModified();
+	}
+
+	private static byte[] read(RandomAccessFile in, Slot slot)
+			throws IOException {
+		byte[] record = new byte[slot.length];
+		in.seek(slot.offset);
+		in.readFully(record);
+		return record;
+	}
+
+	private static Search readSearch(String query, DataInputStream in)
+			throws IOException {
+		if (!query.equals(JiraBeanCodec.readString(in))) {
+			throw new StaleIndexException();
+		}
+		long syncedAt = in.readLong();
+		int count = in.readInt();
+		List<String> keys = new ArrayList<String>(count);
+		for (int i = 0; i < count; i++) {
+			keys.add(JiraBeanCodec.readString(in));
+		}
+		return new Search(syncedAt, keys);
+	}
+
+	private static long updatedOf(RemoteIssue issue) {
+		return (issue.getUpdated() == null) ? Long.MIN_VALUE : issue
+				.getUpdated().getTimeInMillis();
+	}
+
+	/**
+	 * A record read is not the one indexed, the file was changed by another
+	 * process
+	 */
+	private static final class StaleIndexException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * The issues a search found when last synchronized
+	 */
+	static final class Search {
+
+		final long syncedAt;
+		final List<String> keys;
+
+		Search(long syncedAt, List<String> keys) {
+			this.syncedAt = syncedAt;
+			this.keys = Collections.unmodifiableList(keys);
+		}
+	}
+
+	/**
+	 * Position of the latest record of an issue or search
+	 */
+	private static final class Slot implements Comparable<Slot> {
+
+		final String name;
+		/**
+		 * Update time of an issue, synchronization time of a search
+		 */
+		final long updated;
+		byte type;
+		long offset;
+		int length;
+
+		Slot(String name, long updated) {
+			this.name = name;
+			this.updated = updated;
+		}
+
+		public int compareTo(Slot other) {
+			return (offset < other.offset) ? -1 : (offset == other.offset
+					? 0
+					: 1);
+		}
+	}
+}
@@ -0,0 +1,307 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.rmi.RemoteException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.logging.Log;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * Runs a JQL search through an {@link IssueStore}, downloading only the
+ * issues updated since the search was last synchronized.
+ *
+ * The first time, the whole search is fetched and stored. Afterwards two
+ * narrow searches are enough: the issues of the search updated since, and
+ * the stored issues of the search updated since, to find the ones that left
+ * it. Any doubt, such as a result reaching <code>maxIssues</code> or a
+ * stored issue deleted from JIRA, falls back to the whole search.
+ *
+ * Results are sorted locally, so they do not depend on what earlier builds
+ * stored: by key when the query has no ordering, JIRA giving none then, or
+ * as its <code>ORDER BY</code> says when it only sorts by
+ * <code>key</code>, <code>created</code> or <code>updated</code>, each with
+ * an explicit <code>ASC</code> or <code>DESC</code>. Queries sorted
+ * otherwise are always searched whole. The searches of the synchronization
+ * are not recorded by the snapshot, which gets the result under the query
+ * from the caller instead.
+ *
+ */
+final class IssueSync {
+
+	/**
+	 * Covers any difference between the time zone of the build and the one
+	 * JIRA uses for JQL dates, besides clock skew
+	 */
+	private static final long OVERLAP_MILLIS = 26 * 60 * 60 * 1000L;
+
+	/**
+	 * Keys per <code>issuekey in</code> search
+	 */
+	private static final int KEYS_PER_SEARCH = 200;
+
+	private static final Pattern ORDER_BY = Pattern.compile(
+			"\\s+order\\s+by\\s+", Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern SORT_FIELD = Pattern.compile(
+			"\\s*\"?(\\w+)\"?\\s+(asc|desc)\\s*", Pattern.CASE_INSENSITIVE);
+
+	private static final String[] SORTABLE = {"key", "created", "updated"};
+
+	private IssueSync() {
+	}
+
+	/**
+	 * Returns the issues found by the search
+	 *
+	 * @param jiraService
+	 * @param loginToken
+	 * @param store
+	 * @param jql
+	 * @param maxIssues
+	 * @param log
+	 * @return
+	 * @throws RemoteException
+	 * @throws IOException
+	 *             if the store cannot be read or written
+	 */
+	static RemoteIssue[] search(JiraSoapService jiraService,
+			String loginToken, IssueStore store, String jql, int maxIssues,
+			Log log) throws RemoteException, IOException {
+		JiraSnapshotDecorator.pauseRecording();
+		try {
+			return sync(jiraService, loginToken, store, jql, maxIssues, log);
+		} finally {
+			JiraSnapshotDecorator.resumeRecording();
+		}
+	}
+
+	private static RemoteIssue[] sync(JiraSoapService jiraService,
+			String loginToken, IssueStore store, String jql, int maxIssues,
+			Log log) throws RemoteException, IOException {
+		long syncedAt = System.currentTimeMillis();
+		Comparator<RemoteIssue> order = orderOf(jql);
+		if (order == null) {
+			log.debug("Ordering not reproduced locally, searching JIRA");
+			return jiraService.getIssuesFromJqlSearch(loginToken, jql,
+					maxIssues);
+		}
+		IssueStore.Search last = store.getSearch(jql);
+		if (last != null) {
+			RemoteIssue[] issues = update(jiraService, loginToken, store,
+					jql, maxIssues, last, syncedAt, log);
+			if (issues != null) {
+				Arrays.sort(issues, order);
+				return issues;
+			}
+		}
+		RemoteIssue[] issues = jiraService.getIssuesFromJqlSearch(loginToken,
+				jql, maxIssues);
+		if (issues != null) {
+			store.upsert(issues);
+			if (issues.length < maxIssues) {
+				List<String> keys = new ArrayList<String>(issues.length);
+				for (RemoteIssue issue : issues) {
+					keys.add(issue.getKey());
+				}
+				store.putSearch(jql, syncedAt, keys);
+			} else {
+				// Other issues may match, the next build must search again
+				log.debug("Search truncated at " + maxIssues
+						+ " issues, not kept for the next build");
+			}
+			Arrays.sort(issues, order);
+		}
+		return issues;
+	}
+
+	/**
+	 * Returns the order of the results of a query, if it can be reproduced
+	 * locally
+	 *
+	 * @param jql
+	 * @return the order, or <code>null</code> if not reproduced
+	 */
+	static Comparator<RemoteIssue> orderOf(String jql) {
+		Matcher orderBy = ORDER_BY.matcher(jql);
+		if (!orderBy.find()) {
+			return new Ordering(new int[0], new boolean[0]);
+		}
+		String[] sorts = jql.substring(orderBy.end()).split(",");
+		int[] fields = new int[sorts.length];
+		boolean[] descending = new boolean[sorts.length];
+		for (int i = 0; i < sorts.length; i++) {
+			Matcher sort = SORT_FIELD.matcher(sorts[i]);
+			if (!sort.matches()) {
+				return null;
+			}
+			String field = sort.group(1);
+			fields[i] = -1;
+			for (int j = 0; j < SORTABLE.length; j++) {
+				if (SORTABLE[j].equalsIgnoreCase(field)) {
+					fields[i] = j;
+				}
+			}
+			if ("issuekey".equalsIgnoreCase(field)) {
+				fields[i] = 0;
+			}
+			if (fields[i] < 0) {
+				return null;
+			}
+			descending[i] = "desc".equalsIgnoreCase(sort.group(2));
+		}
+		return new Ordering(fields, descending);
+	}
+
+	/**
+	 * Brings a synchronized search up to date
+	 *
+	 * @return the issues, or <code>null</code> if the whole search is needed
+	 */
+	private static RemoteIssue[] update(JiraSoapService jiraService,
+			String loginToken, IssueStore store, String jql, int maxIssues,
+			IssueStore.Search last, long syncedAt, Log log)
+			throws RemoteException, IOException {
+		String since = "updated >= \""
+				+ new SimpleDateFormat("yyyy/MM/dd HH:mm").format(new Date(
+						last.syncedAt - OVERLAP_MILLIS)) + "\"";
+		RemoteIssue[] changed = jiraService.getIssuesFromJqlSearch(
+				loginToken, restrict(jql, since), maxIssues);
+		if (changed == null || changed.length >= maxIssues) {
+			return null;
+		}
+		Set<String> matching = new HashSet<String>();
+		for (RemoteIssue issue : changed) {
+			matching.add(issue.getKey());
+		}
+		Set<String> keys = new LinkedHashSet<String>(last.keys);
+		List<String> others = new ArrayList<String>();
+		for (String key : keys) {
+			if (!matching.contains(key)) {
+				others.add(key);
+			}
+		}
+		try {
+			for (int i = 0; i < others.size(); i += KEYS_PER_SEARCH) {
+				List<String> chunk = others.subList(i, Math.min(i
+						+ KEYS_PER_SEARCH, others.size()));
+				RemoteIssue[] left = jiraService.getIssuesFromJqlSearch(
+						loginToken, "issuekey in (" + join(chunk) + ") AND "
+								+ since, chunk.size());
+				if (left != null) {
+					for (RemoteIssue issue : left) {
+						keys.remove(issue.getKey());
+					}
+				}
+			}
+		} catch (com.atlassian.jira.rpc.soap.client.RemoteException e) {
+			// Typically a stored issue deleted or moved since
+			return null;
+		}
+		keys.addAll(matching);
+		if (keys.size() >= maxIssues) {
+			// JIRA would truncate the result, and choose which issues
+			return null;
+		}
+		store.upsert(changed);
+		RemoteIssue[] issues = store.get(keys);
+		if (issues == null) {
+			return null;
+		}
+		store.putSearch(jql, syncedAt, keys);
+		if (log.isInfoEnabled()) {
+			log.info(changed.length + " issues updated since the last build, "
+					+ (issues.length - changed.length) + " read locally");
+		}
+		return issues;
+	}
+
+	/**
+	 * Adds a condition to a JQL query, keeping its ordering last
+	 *
+	 * @param jql
+	 * @param condition
+	 * @return
+	 */
+	static String restrict(String jql, String condition) {
+		Matcher orderBy = ORDER_BY.matcher(jql);
+		if (orderBy.find()) {
+			return "(" + jql.substring(0, orderBy.start()) + ") AND "
+					+ condition + jql.substring(orderBy.start());
+		}
+		return "(" + jql + ") AND " + condition;
+	}
+
+	/**
+	 * Removes the ordering of a JQL query
+	 *
+	 * @param jql
+	 * @return
+	 */
+	static String unordered(String jql) {
+		Matcher orderBy = ORDER_BY.matcher(jql);
+		return orderBy.find() ? jql.substring(0, orderBy.start()) : jql;
+	}
+
+	/**
+	 * Sorts issues by some of {@link #SORTABLE}, then by key
+	 */
+	private static final class Ordering implements Comparator<RemoteIssue> {
+
+		private final int[] fields;
+		private final boolean[] descending;
+
+		Ordering(int[] fields, boolean[] descending) {
+			this.fields = fields;
+			this.descending = descending;
+		}
+
+		public int compare(RemoteIssue a, RemoteIssue b) {
+			for (int i = 0; i < fields.length; i++) {
+				int result;
+				if (fields[i] == 0) {
+					result = PartitionedSearch.KEY_ORDER.compare(a.getKey(), b
+							.getKey());
+				} else if (fields[i] == 1) {
+					result = compareTimes(a.getCreated(), b.getCreated());
+				} else {
+					result = compareTimes(a.getUpdated(), b.getUpdated());
+				}
+				if (result != 0) {
+					return descending[i] ? -result : result;
+				}
+			}
+			return PartitionedSearch.KEY_ORDER.compare(a.getKey(), b.getKey());
+		}
+
+		private static int compareTimes(Calendar a, Calendar b) {
+			long timeA = (a == null) ? Long.MIN_VALUE : a.getTimeInMillis();
+			long timeB = (b == null) ? Long.MIN_VALUE : b.getTimeInMillis();
+			return (timeA < timeB) ? -1 : (timeA == timeB) ? 0 : 1;
+		}
+	}
+
+	private static String join(List<String> keys) {
+		StringBuilder sb = new StringBuilder();
+		for (String key : keys) {
+			if (sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append(key);
+		}
+		return sb.toString();
+	}
+}
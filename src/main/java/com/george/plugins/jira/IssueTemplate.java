@@ -0,0 +1,427 @@
+package com.george.plugins.jira;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import com.atlassian.jira.rpc.soap.client.AbstractNamedRemoteEntity;
+import com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * The line printed for each issue of the release notes, compiled once into
+ * literal text and fields appended to a {@link StringBuilder}.
+ *
+ * Fields are named, such as <code>[{key}] {summary} ({assignee})</code>:
+ * <code>key</code>, <code>summary</code>, <code>type</code>,
+ * <code>status</code>, <code>priority</code>, <code>resolution</code>,
+ * <code>assignee</code>, <code>reporter</code>, <code>components</code>,
+ * <code>fixVersions</code>, <code>affectsVersions</code>,
+ * <code>created</code>, <code>updated</code>, and custom fields by ID, such
+ * as <code>{customfield_10010}</code>. The numbers of the former
+ * <code>MessageFormat</code> template, <code>{0}</code> to <code>{5}</code>
+ * for key, summary, type, status, priority and resolution, are still
+ * accepted, printing <code>null</code> for a missing value as it did, as is
+ * its quoting: <code>'{'</code> for a brace and <code>''</code> for a quote.
+ * Named fields print nothing when missing.
+ *
+ * Any field may also have a <code>MessageFormat</code> type and style, such
+ * as <code>{created,date,long}</code> or <code>{0,number}</code>, formatted
+ * by a <code>MessageFormat</code> of that field alone: dates are given as
+ * dates, and values read as numbers for the <code>number</code> and
+ * <code>choice</code> types. A value the format rejects is printed as is.
+ *
+ */
+final class IssueTemplate {
+
+	private static final String[] NUMBERED = {"key", "summary", "type",
+			"status", "priority", "resolution"};
+
+	private final Segment[] segments;
+	private final boolean usesConstantNames;
+
+	private IssueTemplate(Segment[] segments, boolean usesConstantNames) {
+		this.segments = segments;
+		this.usesConstantNames = usesConstantNames;
+	}
+
+	/**
+	 * Compiles a template
+	 *
+	 * @param template
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             if a field is unknown or a brace is not closed
+	 */
+	static IssueTemplate compile(String template) {
+		List<Segment> segments = new ArrayList<Segment>();
+		StringBuilder text = new StringBuilder();
+		boolean quoted = false;
+		boolean constants = false;
+		int length = template.length();
+		for (int i = 0; i < length; i++) {
+			char c = template.charAt(i);
+			if (c == '\'') {
+				if (i + 1 < length && template.charAt(i + 1) == '\'') {
+					text.append(c);
+					i++;
+				} else {
+					quoted = !quoted;
+				}
+			} else if (c == '{' && !quoted) {
+				int end = closingBrace(template, i);
+				if (end < 0) {
+					throw new IllegalArgumentException(
+							"Unmatched brace in the issue template: "
+									+ template);
+				}
+				if (text.length() > 0) {
+					segments.add(new Literal(text.toString()));
+					text.setLength(0);
+				}
+				String element = template.substring(i + 1, end);
+				int comma = element.indexOf(',');
+				Field field = fieldOf((comma < 0) ? element.trim() : element
+						.substring(0, comma).trim());
+				constants |= field.isConstant();
+				segments.add((comma < 0) ? field : new Formatted(field,
+						element.substring(comma + 1)));
+				i = end;
+			} else {
+				text.append(c);
+			}
+		}
+		if (text.length() > 0) {
+			segments.add(new Literal(text.toString()));
+		}
+		return new IssueTemplate(segments.toArray(new Segment[segments.size()]),
+				constants);
+	}
+
+	/**
+	 * Returns if the template prints the names of issue types, statuses,
+	 * priorities or resolutions
+	 *
+	 * @return
+	 */
+	boolean usesConstantNames() {
+		return usesConstantNames;
+	}
+
+	/**
+	 * Appends the line of an issue
+	 *
+	 * @param issue
+	 * @param constants
+	 *            names of the issue constants, <code>null</code> to print
+	 *            their IDs
+	 * @param out
+	 */
+	void render(RemoteIssue issue, IssueConstants constants, StringBuilder out) {
+		for (Segment segment : segments) {
+			segment.append(issue, constants, out);
+		}
+	}
+
+	/**
+	 * Returns the brace closing the one at <code>start</code>, skipping the
+	 * braces nested in a format style
+	 *
+	 * @return the index, or -1 if not closed
+	 */
+	private static int closingBrace(String template, int start) {
+		int depth = 0;
+		boolean quoted = false;
+		for (int i = start; i < template.length(); i++) {
+			char c = template.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			} else if (quoted) {
+				continue;
+			} else if (c == '{') {
+				depth++;
+			} else if (c == '}' && --depth == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static Field fieldOf(String name) {
+		String whenMissing = "";
+		if (name.length() == 1 && name.charAt(0) >= '0'
+				&& name.charAt(0) < '0' + NUMBERED.length) {
+			name = NUMBERED[name.charAt(0) - '0'];
+			// As MessageFormat prints null arguments
+			whenMissing = "null";
+		}
+		if (name.startsWith("customfield_")) {
+			return new CustomField(name);
+		}
+		for (int i = 0; i < Field.NAMES.length; i++) {
+			if (Field.NAMES[i].equalsIgnoreCase(name)) {
+				return new Field(i, whenMissing);
+			}
+		}
+		throw new IllegalArgumentException("Unknown issue template field: {"
+				+ name + "}");
+	}
+
+	private static void appendNames(AbstractNamedRemoteEntity[] entities,
+			StringBuilder out) {
+		if (entities == null) {
+			return;
+		}
+		for (int i = 0; i < entities.length; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			out.append(entities[i].getName());
+		}
+	}
+
+	/**
+	 * Appends a date as <code>yyyy-MM-dd</code>
+	 */
+	private static void appendDate(Calendar date, StringBuilder out) {
+		if (date == null) {
+			return;
+		}
+		out.append(date.get(Calendar.YEAR)).append('-');
+		appendTwoDigits(date.get(Calendar.MONTH) + 1, out);
+		out.append('-');
+		appendTwoDigits(date.get(Calendar.DAY_OF_MONTH), out);
+	}
+
+	private static void appendTwoDigits(int value, StringBuilder out) {
+		if (value < 10) {
+			out.append('0');
+		}
+		out.append(value);
+	}
+
+
+	/**
+	 * Part of the template
+	 */
+	private abstract static class Segment {
+
+		abstract void append(RemoteIssue issue, IssueConstants constants,
+				StringBuilder out);
+	}
+
+	private static final class Literal extends Segment {
+
+		private final String text;
+
+		Literal(String text) {
+			this.text = text;
+		}
+
+		@Override
+		void append(RemoteIssue issue, IssueConstants constants,
+				StringBuilder out) {
+			out.append(text);
+		}
+	}
+
+	/**
+	 * A field of the issue, by its position in {@link #NAMES}
+	 */
+	private static class Field extends Segment {
+
+		static final String[] NAMES = {"key", "summary", "type", "status",
+				"priority", "resolution", "assignee", "reporter",
+				"components", "fixVersions", "affectsVersions", "created",
+				"updated"};
+
+		private final int field;
+
+		/**
+		 * Printed instead of a missing text value
+		 */
+		final String whenMissing;
+
+		Field(int field, String whenMissing) {
+			this.field = field;
+			this.whenMissing = whenMissing;
+		}
+
+		boolean isConstant() {
+			return field >= 2 && field <= 5;
+		}
+
+		/**
+		 * Returns the text of the fields up to <code>reporter</code>
+		 *
+		 * @return the text, <code>null</code> if missing
+		 */
+		private String textOf(RemoteIssue issue, IssueConstants constants) {
+			switch (field) {
+				case 0 :
+					return issue.getKey();
+				case 1 :
+					return issue.getSummary();
+				case 2 :
+					return (constants == null) ? issue.getType() : constants
+							.typeOf(issue);
+				case 3 :
+					return (constants == null) ? issue.getStatus() : constants
+							.statusOf(issue);
+				case 4 :
+					return (constants == null) ? issue.getPriority()
+							: constants.priorityOf(issue);
+				case 5 :
+					return (constants == null) ? issue.getResolution()
+							: constants.resolutionOf(issue);
+				case 6 :
+					return issue.getAssignee();
+				default :
+					return issue.getReporter();
+			}
+		}
+
+		/**
+		 * Returns the value handed to a format: a date for dates, text
+		 * otherwise
+		 *
+		 * @return the value, <code>null</code> if missing
+		 */
+		Object valueOf(RemoteIssue issue, IssueConstants constants) {
+			if (field >= 0 && field <= 7) {
+				return textOf(issue, constants);
+			}
+			if (field == 11 || field == 12) {
+				Calendar date = (field == 11) ? issue.getCreated() : issue
+						.getUpdated();
+				return (date == null) ? null : date.getTime();
+			}
+			StringBuilder text = new StringBuilder();
+			append(issue, constants, text);
+			return text.toString();
+		}
+
+		@Override
+		void append(RemoteIssue issue, IssueConstants constants,
+				StringBuilder out) {
+			switch (field) {
+				case 0 :
+				case 1 :
+				case 2 :
+				case 3 :
+				case 4 :
+				case 5 :
+				case 6 :
+				case 7 :
+					String text = textOf(issue, constants);
+					out.append((text == null) ? whenMissing : text);
+					break;
+				case 8 :
+					appendNames(issue.getComponents(), out);
+					break;
+				case 9 :
+					appendNames(issue.getFixVersions(), out);
+					break;
+				case 10 :
+					appendNames(issue.getAffectsVersions(), out);
+					break;
+				case 11 :
+					appendDate(issue.getCreated(), out);
+					break;
+				default :
+					appendDate(issue.getUpdated(), out);
+			}
+		}
+	}
+
+	/**
+	 * The values of a custom field, separated by commas
+	 */
+	private static final class CustomField extends Field {
+
+		private final String id;
+
+		CustomField(String id) {
+			super(-1, "");
+			this.id = id;
+		}
+
+		@Override
+		boolean isConstant() {
+			return false;
+		}
+
+		@Override
+		void append(RemoteIssue issue, IssueConstants constants,
+				StringBuilder out) {
+			RemoteCustomFieldValue[] fields = issue.getCustomFieldValues();
+			if (fields == null) {
+				return;
+			}
+			for (RemoteCustomFieldValue field : fields) {
+				if (id.equals(field.getCustomfieldId())
+						&& field.getValues() != null) {
+					String[] values = field.getValues();
+					for (int i = 0; i < values.length; i++) {
+						if (i > 0) {
+							out.append(", ");
+						}
+						if (values[i] != null) {
+							out.append(values[i]);
+						}
+					}
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * A field printed with a <code>MessageFormat</code> type and style
+	 */
+	private static final class Formatted extends Segment {
+
+		private final Field field;
+		private final MessageFormat format;
+		private final boolean numeric;
+
+		/**
+		 * @param field
+		 * @param typeAndStyle
+		 *            such as <code>date,long</code>
+		 * @throws IllegalArgumentException
+		 *             if the type or style is unknown
+		 */
+		Formatted(Field field, String typeAndStyle) {
+			this.field = field;
+			this.format = new MessageFormat("{0," + typeAndStyle + "}");
+			String type = typeAndStyle.split(",", 2)[0].trim();
+			this.numeric = "number".equalsIgnoreCase(type)
+					|| "choice".equalsIgnoreCase(type);
+		}
+
+		@Override
+		void append(RemoteIssue issue, IssueConstants constants,
+				StringBuilder out) {
+			Object value = field.valueOf(issue, constants);
+			if (value == null) {
+				out.append(field.whenMissing);
+				return;
+			}
+			if (numeric && value instanceof String) {
+				try {
+					value = new BigDecimal(((String) value).trim());
+				} catch (NumberFormatException e) {
+					// Not a number, printed as is
+				}
+			}
+			try {
+				out.append(format.format(new Object[]{value}));
+			} catch (IllegalArgumentException e) {
+				out.append(value);
+			}
+		}
+	}
+}
@@ -0,0 +1,364 @@
+package com.george.plugins.jira;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import com.atlassian.jira.rpc.soap.client.AbstractRemoteConstant;
+import com.atlassian.jira.rpc.soap.client.RemoteComponent;
+import com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemotePriority;
+import com.atlassian.jira.rpc.soap.client.RemoteResolution;
+import com.atlassian.jira.rpc.soap.client.RemoteStatus;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * Compact binary form of the JIRA beans kept on disk.
+ *
+ * An array is written as a type tag, its length and the fields of each bean
+ * in declaration order. Strings, dates and nested arrays may be
+ * <code>null</code> and are preceded by a marker; long strings, such as issue
+ * descriptions, are written as plain UTF-8. Decoding always builds new beans,
+ * so callers may modify what they get.
+ *
+ */
+final class JiraBeanCodec {
+
+	private static final byte VERSIONS = 1;
+	private static final byte COMPONENTS = 2;
+	private static final byte ISSUE_TYPES = 3;
+	private static final byte PRIORITIES = 4;
+	private static final byte STATUSES = 5;
+	private static final byte RESOLUTIONS = 6;
+	private static final byte ISSUES = 7;
+
+	private static final byte NULL = 0;
+	private static final byte SHORT_STRING = 1;
+	private static final byte LONG_STRING = 2;
+
+	/**
+	 * Longest string sure to fit the 64 KB limit of modified UTF-8
+	 */
+	private static final int MAX_SHORT_STRING = 65535 / 3;
+
+	private static final String UTF_8 = "UTF-8";
+
+	private JiraBeanCodec() {
+	}
+
+	/**
+	 * Returns if arrays of the given type can be encoded
+	 *
+	 * @param arrayType
+	 * @return
+	 */
+	static boolean supports(Class<?> arrayType) {
+		return tagOf(arrayType) != 0;
+	}
+
+	static byte[] encode(Object[] beans) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+				64 + 32 * beans.length);
+		DataOutputStream out = new DataOutputStream(bytes);
+		write(out, beans);
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	static Object[] decode(byte[] encoded) throws IOException {
+		return read(new DataInputStream(new ByteArrayInputStream(encoded)));
+	}
+
+	static void write(DataOutput out, Object[] beans) throws IOException {
+		byte tag = tagOf(beans.getClass());
+		if (tag == 0) {
+			throw new IOException("Cannot encode "
+					+ beans.getClass().getComponentType().getName());
+		}
+		out.writeByte(tag);
+		out.writeInt(beans.length);
+		for (Object bean : beans) {
+			switch (tag) {
+				case VERSIONS :
+					RemoteVersion version = (RemoteVersion) bean;
+					writeString(out, version.getId());
+					writeString(out, version.getName());
+					out.writeBoolean(version.isArchived());
+					writeCalendar(out, version.getReleaseDate());
+					out.writeBoolean(version.isReleased());
+					Long sequence = version.getSequence();
+					out.writeBoolean(sequence != null);
+					if (sequence != null) {
+						out.writeLong(sequence.longValue());
+					}
+					break;
+				case COMPONENTS :
+					RemoteComponent component = (RemoteComponent) bean;
+					writeString(out, component.getId());
+					writeString(out, component.getName());
+					break;
+				case ISSUES :
+					writeIssue(out, (RemoteIssue) bean);
+					break;
+				default :
+					AbstractRemoteConstant constant = (AbstractRemoteConstant) bean;
+					writeString(out, constant.getId());
+					writeString(out, constant.getName());
+					writeString(out, constant.getDescription());
+					writeString(out, constant.getIcon());
+					if (tag == ISSUE_TYPES) {
+						out.writeBoolean(((RemoteIssueType) bean).isSubTask());
+					} else if (tag == PRIORITIES) {
+						writeString(out, ((RemotePriority) bean).getColor());
+					}
+			}
+		}
+	}
+
+	static Object[] read(DataInput in) throws IOException {
+		byte tag = in.readByte();
+		int length = in.readInt();
+		switch (tag) {
+			case VERSIONS :
+				RemoteVersion[] versions = new RemoteVersion[length];
+				for (int i = 0; i < length; i++) {
+					String id = readString(in);
+					String name = readString(in);
+					boolean archived = in.readBoolean();
+					Calendar releaseDate = readCalendar(in);
+					boolean released = in.readBoolean();
+					Long sequence = in.readBoolean() ? Long.valueOf(in
+							.readLong()) : null;
+					versions[i] = new RemoteVersion(id, name, archived,
+							releaseDate, released, sequence);
+				}
+				return versions;
+			case COMPONENTS :
+				RemoteComponent[] components = new RemoteComponent[length];
+				for (int i = 0; i < length; i++) {
+					components[i] = new RemoteComponent(readString(in),
+							readString(in));
+				}
+				return components;
+			case ISSUE_TYPES :
+				RemoteIssueType[] issueTypes = new RemoteIssueType[length];
+				for (int i = 0; i < length; i++) {
+					issueTypes[i] = new RemoteIssueType(readString(in),
+							readString(in), readString(in), readString(in),
+							in.readBoolean());
+				}
+				return issueTypes;
+			case PRIORITIES :
+				RemotePriority[] priorities = new RemotePriority[length];
+				for (int i = 0; i < length; i++) {
+					priorities[i] = new RemotePriority(readString(in),
+							readString(in), readString(in), readString(in),
+							readString(in));
+				}
+				return priorities;
+			case STATUSES :
+				RemoteStatus[] statuses = new RemoteStatus[length];
+				for (int i = 0; i < length; i++) {
+					statuses[i] = new RemoteStatus(readString(in),
+							readString(in), readString(in), readString(in));
+				}
+				return statuses;
+			case RESOLUTIONS :
+				RemoteResolution[] resolutions = new RemoteResolution[length];
+				for (int i = 0; i < length; i++) {
+					resolutions[i] = new RemoteResolution(readString(in),
+							readString(in), readString(in), readString(in));
+				}
+				return resolutions;
+			case ISSUES :
+				RemoteIssue[] issues = new RemoteIssue[length];
+				for (int i = 0; i < length; i++) {
+					issues[i] = readIssue(in);
+				}
+				return issues;
+			default :
+				throw new IOException("Unknown bean type " + tag);
+		}
+	}
+
+	static void writeIssue(DataOutput out, RemoteIssue issue)
+			throws IOException {
+		writeString(out, issue.getId());
+		writeArray(out, issue.getAffectsVersions());
+		writeString(out, issue.getAssignee());
+		writeStrings(out, issue.getAttachmentNames());
+		writeArray(out, issue.getComponents());
+		writeCalendar(out, issue.getCreated());
+		RemoteCustomFieldValue[] fields = issue.getCustomFieldValues();
+		out.writeInt(fields == null ? -1 : fields.length);
+		if (fields != null) {
+			for (RemoteCustomFieldValue field : fields) {
+				writeString(out, field.getCustomfieldId());
+				writeString(out, field.getKey());
+				writeStrings(out, field.getValues());
+			}
+		}
+		writeString(out, issue.getDescription());
+		writeCalendar(out, issue.getDuedate());
+		writeString(out, issue.getEnvironment());
+		writeArray(out, issue.getFixVersions());
+		writeString(out, issue.getKey());
+		writeString(out, issue.getPriority());
+		writeString(out, issue.getProject());
+		writeString(out, issue.getReporter());
+		writeString(out, issue.getResolution());
+		writeString(out, issue.getStatus());
+		writeString(out, issue.getSummary());
+		writeString(out, issue.getType());
+		writeCalendar(out, issue.getUpdated());
+		Long votes = issue.getVotes();
+		out.writeBoolean(votes != null);
+		if (votes != null) {
+			out.writeLong(votes.longValue());
+		}
+	}
+
+	static RemoteIssue readIssue(DataInput in) throws IOException {
+		String id = readString(in);
+		RemoteVersion[] affectsVersions = (RemoteVersion[]) readArray(in);
+		String assignee = readString(in);
+		String[] attachmentNames = readStrings(in);
+		RemoteComponent[] components = (RemoteComponent[]) readArray(in);
+		Calendar created = readCalendar(in);
+		int count = in.readInt();
+		RemoteCustomFieldValue[] fields = null;
+		if (count >= 0) {
+			fields = new RemoteCustomFieldValue[count];
+			for (int i = 0; i < count; i++) {
+				fields[i] = new RemoteCustomFieldValue(readString(in),
+						readString(in), readStrings(in));
+			}
+		}
+		String description = readString(in);
+		Calendar duedate = readCalendar(in);
+		String environment = readString(in);
+		RemoteVersion[] fixVersions = (RemoteVersion[]) readArray(in);
+		String key = readString(in);
+		String priority = readString(in);
+		String project = readString(in);
+		String reporter = readString(in);
+		String resolution = readString(in);
+		String status = readString(in);
+		String summary = readString(in);
+		String type = readString(in);
+		Calendar updated = readCalendar(in);
+		Long votes = in.readBoolean() ? Long.valueOf(in.readLong()) : null;
+		return new RemoteIssue(id, affectsVersions, assignee, attachmentNames,
+				components, created, fields, description, duedate,
+				environment, fixVersions, key, priority, project, reporter,
+				resolution, status, summary, type, updated, votes);
+	}
+
+	private static void writeArray(DataOutput out, Object[] beans)
+			throws IOException {
+		out.writeBoolean(beans != null);
+		if (beans != null) {
+			write(out, beans);
+		}
+	}
+
+	private static Object[] readArray(DataInput in) throws IOException {
+		return in.readBoolean() ? read(in) : null;
+	}
+
+	private static void writeStrings(DataOutput out, String[] values)
+			throws IOException {
+		out.writeInt(values == null ? -1 : values.length);
+		if (values != null) {
+			for (String value : values) {
+				writeString(out, value);
+			}
+		}
+	}
+
+	private static String[] readStrings(DataInput in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = readString(in);
+		}
+		return values;
+	}
+
+	static void writeString(DataOutput out, String value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value.length() <= MAX_SHORT_STRING) {
+			out.writeByte(SHORT_STRING);
+			out.writeUTF(value);
+		} else {
+			byte[] bytes = value.getBytes(UTF_8);
+			out.writeByte(LONG_STRING);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	static String readString(DataInput in) throws IOException {
+		byte marker = in.readByte();
+		if (marker == NULL) {
+			return null;
+		} else if (marker == SHORT_STRING) {
+			return in.readUTF();
+		}
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+	static void writeCalendar(DataOutput out, Calendar value)
+			throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value.getTimeInMillis());
+			out.writeUTF(value.getTimeZone().getID());
+		}
+	}
+
+	static Calendar readCalendar(DataInput in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		long millis = in.readLong();
+		Calendar value = Calendar.getInstance(TimeZone.getTimeZone(in
+				.readUTF()));
+		value.setTimeInMillis(millis);
+		return value;
+	}
+
+	private static byte tagOf(Class<?> arrayType) {
+		Class<?> type = arrayType.getComponentType();
+		if (type == RemoteVersion.class) {
+			return VERSIONS;
+		} else if (type == RemoteComponent.class) {
+			return COMPONENTS;
+		} else if (type == RemoteIssueType.class) {
+			return ISSUE_TYPES;
+		} else if (type == RemotePriority.class) {
+			return PRIORITIES;
+		} else if (type == RemoteStatus.class) {
+			return STATUSES;
+		} else if (type == RemoteResolution.class) {
+			return RESOLUTIONS;
+		} else if (type == RemoteIssue.class) {
+			return ISSUES;
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,196 @@
+package com.george.plugins.jira;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteComment;
+import com.atlassian.jira.rpc.soap.client.RemoteComponent;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemotePriority;
+import com.atlassian.jira.rpc.soap.client.RemoteResolution;
+import com.atlassian.jira.rpc.soap.client.RemoteStatus;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * Asynchronous facade over the JIRA operations of a mojo execution.
+ *
+ * Each call is submitted to a bounded executor and returns at once, so
+ * independent lookups overlap instead of blocking the build thread one after
+ * another:
+ *
+ * <pre>
+ * Future&lt;RemoteVersion[]&gt; versions = client.getVersions(jiraProjectKey);
+ * Future&lt;RemoteStatus[]&gt; statuses = client.getStatuses();
+ * process(JiraClient.await(versions), JiraClient.await(statuses));
+ * </pre>
+ *
+ */
+class JiraClient {
+
+	private final JiraSoapService jiraService;
+	private final String loginToken;
+	private final ExecutorService executor;
+
+	/**
+	 * @param jiraService
+	 *            the service of the execution, safe for concurrent calls
+	 * @param loginToken
+	 * @param executor
+	 *            runs the calls, see {@link JiraExecutors}
+	 */
+	JiraClient(JiraSoapService jiraService, String loginToken,
+			ExecutorService executor) {
+		this.jiraService = jiraService;
+		this.loginToken = loginToken;
+		this.executor = executor;
+	}
+
+	/**
+	 * Runs any call of the service asynchronously
+	 *
+	 * @param call
+	 * @return
+	 */
+	<T> Future<T> submit(Callable<T> call) {
+		return executor.submit(call);
+	}
+
+	Future<RemoteVersion[]> getVersions(final String projectKey) {
+		return submit(new Callable<RemoteVersion[]>() {
+			public RemoteVersion[] call() throws Exception {
+				return jiraService.getVersions(loginToken, projectKey);
+			}
+		});
+	}
+
+	Future<RemoteComponent[]> getComponents(final String projectKey) {
+		return submit(new Callable<RemoteComponent[]>() {
+			public RemoteComponent[] call() throws Exception {
+				return jiraService.getComponents(loginToken, projectKey);
+			}
+		});
+	}
+
+	Future<RemoteIssueType[]> getIssueTypes() {
+		return submit(new Callable<RemoteIssueType[]>() {
+			public RemoteIssueType[] call() throws Exception {
+				return jiraService.getIssueTypes(loginToken);
+			}
+		});
+	}
+
+	Future<RemoteIssueType[]> getSubTaskIssueTypes() {
+		return submit(new Callable<RemoteIssueType[]>() {
+			public RemoteIssueType[] call() throws Exception {
+				return jiraService.getSubTaskIssueTypes(loginToken);
+			}
+		});
+	}
+
+	Future<RemoteStatus[]> getStatuses() {
+		return submit(new Callable<RemoteStatus[]>() {
+			public RemoteStatus[] call() throws Exception {
+				return jiraService.getStatuses(loginToken);
+			}
+		});
+	}
+
+	Future<RemotePriority[]> getPriorities() {
+		return submit(new Callable<RemotePriority[]>() {
+			public RemotePriority[] call() throws Exception {
+				return jiraService.getPriorities(loginToken);
+			}
+		});
+	}
+
+	Future<RemoteResolution[]> getResolutions() {
+		return submit(new Callable<RemoteResolution[]>() {
+			public RemoteResolution[] call() throws Exception {
+				return jiraService.getResolutions(loginToken);
+			}
+		});
+	}
+
+	Future<RemoteIssue[]> getIssuesFromJqlSearch(final String jql,
+			final int maxIssues) {
+		return submit(new Callable<RemoteIssue[]>() {
+			public RemoteIssue[] call() throws Exception {
+				return jiraService.getIssuesFromJqlSearch(loginToken, jql,
+						maxIssues);
+			}
+		});
+	}
+
+	Future<RemoteComment[]> getComments(final String issueKey) {
+		return submit(new Callable<RemoteComment[]>() {
+			public RemoteComment[] call() throws Exception {
+				return jiraService.getComments(loginToken, issueKey);
+			}
+		});
+	}
+
+	/**
+	 * Fetches the comments of several issues at the same time
+	 *
+	 * @param issueKeys
+	 * @return the comments of each issue, in the same order
+	 * @throws RemoteException
+	 *             the first failure found
+	 */
+	List<RemoteComment[]> getComments(String... issueKeys)
+			throws RemoteException {
+		List<Future<RemoteComment[]>> futures = new ArrayList<Future<RemoteComment[]>>(
+				issueKeys.length);
+		for (String issueKey : issueKeys) {
+			futures.add(getComments(issueKey));
+		}
+		List<RemoteComment[]> comments = new ArrayList<RemoteComment[]>(
+				issueKeys.length);
+		try {
+			for (Future<RemoteComment[]> future : futures) {
+				comments.add(await(future));
+			}
+		} finally {
+			for (Future<RemoteComment[]> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return comments;
+	}
+
+	/**
+	 * Waits for a call, rethrowing its failure as thrown by the service
+	 *
+	 * @param future
+	 * @return
+	 * @throws RemoteException
+	 *             the failure of the call, or if interrupted while waiting
+	 */
+	static <T> T await(Future<T> future) throws RemoteException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RemoteException("Interrupted while waiting for JIRA", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RemoteException) {
+				throw (RemoteException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RemoteException(cause.getMessage(), cause);
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors running the calls of {@link JiraClient}.
+ *
+ * On JVMs with virtual threads every call gets its own virtual thread and a
+ * semaphore bounds how many reach JIRA at the same time. Otherwise a fixed
+ * pool of daemon platform threads is used, whose threads end after a minute
+ * without calls so that a long-lived Maven process does not keep them
+ * between builds. Executors are shared by the whole build, one per
+ * parallelism.
+ *
+ */
+class JiraExecutors {
+
+	private static final ConcurrentMap<Integer, ExecutorService> EXECUTORS = new ConcurrentHashMap<Integer, ExecutorService>();
+
+	private static final long IDLE_SECONDS = 60;
+
+	private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+	private JiraExecutors() {
+	}
+
+	/**
+	 * Returns the executor allowing the given number of concurrent calls
+	 *
+	 * @param parallelism
+	 * @return
+	 */
+	static ExecutorService forParallelism(int parallelism) {
+		Integer key = Integer.valueOf(Math.max(1, parallelism));
+		ExecutorService executor = EXECUTORS.get(key);
+		if (executor == null) {
+			executor = create(key.intValue());
+			ExecutorService existing = EXECUTORS.putIfAbsent(key, executor);
+			if (existing != null) {
+				executor.shutdown();
+				executor = existing;
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Returns if calls run on virtual threads
+	 *
+	 * @return
+	 */
+	static boolean isVirtual() {
+		return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+	}
+
+	private static ExecutorService create(int parallelism) {
+		if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+			try {
+				return new BoundedExecutor(
+						(ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR
+								.invoke(null), parallelism);
+			} catch (Exception e) {
+				// Fall back to platform threads
+			}
+		}
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism,
+				parallelism, IDLE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new DaemonFactory());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static Method findVirtualThreadExecutor() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Names the pool threads and keeps them from holding the build open
+	 */
+	static class DaemonFactory implements ThreadFactory {
+
+		private final String prefix;
+		private final AtomicInteger count = new AtomicInteger();
+
+		DaemonFactory() {
+			this("jira-client-");
+		}
+
+		DaemonFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	/**
+	 * Lets at most <code>permits</code> tasks of an unbounded executor run at
+	 * the same time; the others wait on their own thread
+	 */
+	private static class BoundedExecutor extends AbstractExecutorService {
+
+		private final ExecutorService delegate;
+		private final Semaphore permits;
+
+		BoundedExecutor(ExecutorService delegate, int permits) {
+			this.delegate = delegate;
+			this.permits = new Semaphore(permits);
+		}
+
+		public void execute(final Runnable command) {
+			delegate.execute(new Runnable() {
+				public void run() {
+					try {
+						permits.acquire();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						if (command instanceof Future<?>) {
+							((Future<?>) command).cancel(false);
+						}
+						return;
+					}
+					try {
+						command.run();
+					} finally {
+						permits.release();
+					}
+				}
+			});
+		}
+
+		public void shutdown() {
+			delegate.shutdown();
+		}
+
+		public List<Runnable> shutdownNow() {
+			return delegate.shutdownNow();
+		}
+
+		public boolean isShutdown() {
+			return delegate.isShutdown();
+		}
+
+		public boolean isTerminated() {
+			return delegate.isTerminated();
+		}
+
+		public boolean awaitTermination(long timeout, TimeUnit unit)
+				throws InterruptedException {
+			return delegate.awaitTermination(timeout, unit);
+		}
+	}
+}
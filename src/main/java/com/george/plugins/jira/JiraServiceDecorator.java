@@ -0,0 +1,103 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * Base class for behaviour layered on top of a {@link JiraSoapService}.
+ *
+ * The service interface has more than a hundred operations, so decorators are
+ * implemented as dynamic proxies: subclasses only see the {@link Method}
+ * being invoked and decide whether to handle it or to {@link #proceed} to the
+ * wrapped service.
+ *
+ */
+abstract class JiraServiceDecorator implements InvocationHandler {
+
+	protected final JiraSoapService delegate;
+
+	protected JiraServiceDecorator(JiraSoapService delegate) {
+		if (delegate == null) {
+			throw new IllegalArgumentException("delegate must not be null");
+		}
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Returns a {@link JiraSoapService} whose calls are routed through this
+	 * decorator
+	 *
+	 * @return the decorated service
+	 */
+	public JiraSoapService decorate() {
+		return (JiraSoapService) Proxy.newProxyInstance(
+				JiraSoapService.class.getClassLoader(),
+				new Class<?>[]{JiraSoapService.class}, this);
+	}
+
+	public final Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable {
+		if (method.getDeclaringClass() == Object.class) {
+			String name = method.getName();
+			if ("equals".equals(name)) {
+				return Boolean.valueOf(proxy == args[0]);
+			} else if ("hashCode".equals(name)) {
+				return Integer.valueOf(System.identityHashCode(proxy));
+			}
+			return getClass().getSimpleName() + "[" + delegate + "]";
+		}
+		return invokeService(method, args);
+	}
+
+	/**
+	 * Handles an invocation of a {@link JiraSoapService} operation
+	 *
+	 * @param method
+	 *            the operation invoked
+	 * @param args
+	 *            the operation arguments, <code>null</code> if none
+	 * @return the operation result
+	 * @throws Throwable
+	 *             any exception declared by the operation
+	 */
+	protected abstract Object invokeService(Method method, Object[] args)
+			throws Throwable;
+
+	/**
+	 * Invokes the operation on the wrapped service, unwrapping reflection
+	 * exceptions so callers see the exception thrown by the service itself
+	 *
+	 * @param method
+	 * @param args
+	 * @return the operation result
+	 * @throws Throwable
+	 */
+	protected Object proceed(Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(delegate, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Returns the login token of an invocation, as every authenticated JIRA
+	 * operation receives it as its first argument
+	 *
+	 * @param method
+	 * @param args
+	 * @return the token or <code>null</code> if the operation does not take
+	 *         one
+	 */
+	static String tokenOf(Method method, Object[] args) {
+		if (args == null || args.length == 0 || !(args[0] instanceof String)
+				|| "login".equals(method.getName())) {
+			return null;
+		}
+		return (String) args[0];
+	}
+}
@@ -0,0 +1,66 @@
+package com.george.plugins.jira;
+
+import java.net.URL;
+
+import javax.xml.rpc.ServiceException;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.JiraSoapServiceServiceLocator;
+
+/**
+ * Shares the generated SOAP stubs among all the mojo executions of a build,
+ * and the following builds of the same Maven process while used. There is
+ * one stub per endpoint URL and {@link JiraTransport}.
+ *
+ * The first call of a stub registers about forty type mappings in its Axis
+ * engine, so stubs are created once per endpoint URL. The stubs keep no
+ * per-call state and can be used by several build threads at the same time.
+ *
+ */
+class JiraServiceRegistry {
+
+	/**
+	 * Rough size of a stub and its type mappings
+	 */
+	private static final long STUB_WEIGHT = 256 * 1024;
+
+	private static final JvmCache<String, JiraSoapService> SERVICES = new JvmCache<String, JiraSoapService>() {
+		@Override
+		protected long weigh(JiraSoapService value) {
+			return STUB_WEIGHT;
+		}
+	};
+
+	private JiraServiceRegistry() {
+	}
+
+	/**
+	 * Returns the stub for the given JIRA Web Service URL
+	 *
+	 * @param endpoint
+	 * @param transport
+	 *            HTTP transport used by the stub
+	 * @return
+	 * @throws ServiceException
+	 *             if the stub could not be created
+	 */
+	static JiraSoapService getService(URL endpoint, JiraTransport transport)
+			throws ServiceException {
+		String key = endpoint.toExternalForm() + ' ' + transport.getKey();
+		JiraSoapService service = SERVICES.get(key);
+		if (service == null) {
+			JiraSoapServiceServiceLocator locator = new JiraSoapServiceServiceLocator(
+					transport.getEngineConfiguration());
+			service = locator.getJirasoapserviceV2(endpoint);
+			if (service == null) {
+				throw new ServiceException(
+						"Could not create the JIRA SOAP stub for " + key);
+			}
+			JiraSoapService existing = SERVICES.putIfAbsent(key, service);
+			if (existing != null) {
+				service = existing;
+			}
+		}
+		return service;
+	}
+}
@@ -0,0 +1,160 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.Method;
+import java.rmi.RemoteException;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteAuthenticationException;
+
+/**
+ * A JIRA login shared by every mojo execution that talks to the same JIRA
+ * installation as the same user.
+ *
+ * The service returned by {@link #getService()} always sends the current
+ * token: when JIRA reports an expired token through
+ * {@link RemoteAuthenticationException} it logs in again and retries the
+ * operation once.
+ *
+ * With a {@link LoginTokenCache}, the token kept by a previous build is used
+ * before logging in, new tokens are kept for the next build and
+ * {@link #logout()} leaves the token valid.
+ *
+ */
+class JiraSession {
+
+	private final JiraSoapService service;
+	private final String user;
+	private final String password;
+	private final JiraSoapService sessionService;
+	private final LoginTokenCache tokenCache;
+
+	private String token;
+	private boolean tokenCacheRead;
+	private final Set<String> issuedTokens = new HashSet<String>();
+
+	JiraSession(JiraSoapService service, String user, String password) {
+		this(service, user, password, null);
+	}
+
+	/**
+	 * @param service
+	 * @param user
+	 * @param password
+	 * @param tokenCache
+	 *            where tokens are kept between builds, <code>null</code> to
+	 *            log in and out every build
+	 */
+	JiraSession(JiraSoapService service, String user, String password,
+			LoginTokenCache tokenCache) {
+		this.service = service;
+		this.user = user;
+		this.password = password;
+		this.tokenCache = tokenCache;
+		this.sessionService = new SessionDecorator(service).decorate();
+	}
+
+	/**
+	 * Returns the current token, logging in if there is none
+	 *
+	 * @return the login token
+	 * @throws RemoteException
+	 */
+	synchronized String getToken() throws RemoteException {
+		if (token == null && tokenCache != null && !tokenCacheRead) {
+			tokenCacheRead = true;
+			token = tokenCache.load();
+			if (token != null) {
+				issuedTokens.add(token);
+			}
+		}
+		if (token == null) {
+			token = service.login(user, password);
+			issuedTokens.add(token);
+			if (tokenCache != null) {
+				tokenCache.save(token);
+			}
+		}
+		return token;
+	}
+
+	/**
+	 * Replaces a token JIRA has rejected. If another thread already renewed
+	 * it, the new token is returned without logging in again.
+	 *
+	 * @param staleToken
+	 *            the token used by the failed call
+	 * @return the current token
+	 * @throws RemoteException
+	 */
+	synchronized String renewToken(String staleToken) throws RemoteException {
+		if (token != null && token.equals(staleToken)) {
+			token = null;
+		}
+		return getToken();
+	}
+
+	/**
+	 * Returns if the given token was issued by this session
+	 *
+	 * @param candidate
+	 * @return
+	 */
+	synchronized boolean isIssued(String candidate) {
+		return issuedTokens.contains(candidate);
+	}
+
+	/**
+	 * Returns the service that keeps this session's token up to date
+	 *
+	 * @return
+	 */
+	JiraSoapService getService() {
+		return sessionService;
+	}
+
+	/**
+	 * Logs out from JIRA if logged in, unless the token is kept for the next
+	 * build
+	 *
+	 * @throws RemoteException
+	 */
+	synchronized void logout() throws RemoteException {
+		if (tokenCache != null) {
+			token = null;
+		} else if (token != null) {
+			String current = token;
+			token = null;
+			service.logout(current);
+		}
+	}
+
+	/**
+	 * Swaps tokens issued by this session for the current one and re-logs in
+	 * on authentication failures
+	 */
+	private class SessionDecorator extends JiraServiceDecorator {
+
+		SessionDecorator(JiraSoapService delegate) {
+			super(delegate);
+		}
+
+		@Override
+		protected Object invokeService(Method method, Object[] args)
+				throws Throwable {
+			String used = tokenOf(method, args);
+			if (used == null || "logout".equals(method.getName())
+					|| !isIssued(used)) {
+				return proceed(method, args);
+			}
+			args[0] = getToken();
+			try {
+				return proceed(method, args);
+			} catch (RemoteAuthenticationException e) {
+				args[0] = renewToken((String) args[0]);
+				return proceed(method, args);
+			}
+		}
+	}
+}
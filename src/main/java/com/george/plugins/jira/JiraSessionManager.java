@@ -0,0 +1,186 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * Holds the {@link JiraSession}s of a Maven build, so a reactor logs in once
+ * per (jiraURL, user) pair instead of once per mojo execution.
+ *
+ * The first execution wraps the execution listener of the build request, and
+ * sessions are closed when Maven reports the end of the build to it. This
+ * happens once whatever the projects, lifecycles and forks run, and whether
+ * the build is sequential or parallel, resumed, or has failed or skipped
+ * projects. A build never reporting its end, such as one embedded without
+ * listener support, leaves the sessions open until the JVM exits, when a
+ * single hook, registered with the first session, closes the sessions of
+ * every build still open.
+ *
+ */
+class JiraSessionManager {
+
+	/**
+	 * Keyed by the build request, which is shared by the session clones
+	 * created for parallel builds
+	 */
+	private static final Map<Object, JiraSessionManager> MANAGERS = new WeakHashMap<Object, JiraSessionManager>();
+
+	private final Map<String, JiraSession> sessions = new HashMap<String, JiraSession>();
+
+	private static boolean hookRegistered;
+
+	/**
+	 * Returns the manager of the given build, closed when the build ends
+	 *
+	 * @param session
+	 * @param log
+	 *            where to report logout failures
+	 * @return
+	 */
+	static JiraSessionManager forBuild(MavenSession session, Log log) {
+		synchronized (MANAGERS) {
+			MavenExecutionRequest request = session.getRequest();
+			JiraSessionManager manager = MANAGERS.get(request);
+			if (manager == null) {
+				manager = new JiraSessionManager();
+				MANAGERS.put(request, manager);
+				request.setExecutionListener(closeOnSessionEnd(request
+						.getExecutionListener(), manager, log));
+			}
+			return manager;
+		}
+	}
+
+	/**
+	 * Returns a listener forwarding every event to the given one, and closing
+	 * the sessions of the manager once the build session ended
+	 *
+	 * @param listener
+	 *            listener of the build, may be <code>null</code>
+	 * @param manager
+	 * @param log
+	 * @return
+	 */
+	static ExecutionListener closeOnSessionEnd(
+			final ExecutionListener listener,
+			final JiraSessionManager manager, final Log log) {
+		return (ExecutionListener) Proxy.newProxyInstance(
+				JiraSessionManager.class.getClassLoader(),
+				new Class<?>[]{ExecutionListener.class},
+				new InvocationHandler() {
+					public Object invoke(Object proxy, Method method,
+							Object[] args) throws Throwable {
+						if (method.getDeclaringClass() == Object.class) {
+							String name = method.getName();
+							if ("equals".equals(name)) {
+								return Boolean.valueOf(proxy == args[0]);
+							} else if ("hashCode".equals(name)) {
+								return Integer.valueOf(System
+										.identityHashCode(proxy));
+							}
+							return "JiraSessionManager[" + listener + "]";
+						}
+						if (method.getName().equals("sessionEnded")) {
+							manager.close(log);
+						}
+						if (listener == null) {
+							return null;
+						}
+						try {
+							return method.invoke(listener, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				});
+	}
+
+	/**
+	 * Returns the session for the given JIRA user, creating it if needed
+	 *
+	 * @param url
+	 *            JIRA Web Service URL
+	 * @param service
+	 *            service used to log in and out
+	 * @param user
+	 * @param password
+	 * @param tokenCache
+	 *            where the token is kept between builds, may be
+	 *            <code>null</code>
+	 * @return
+	 */
+	synchronized JiraSession getSession(String url, JiraSoapService service,
+			String user, String password, LoginTokenCache tokenCache) {
+		String key = url + '\n' + user;
+		JiraSession session = sessions.get(key);
+		if (session == null) {
+			session = new JiraSession(service, user, password, tokenCache);
+			sessions.put(key, session);
+			registerShutdownHook();
+		}
+		return session;
+	}
+
+	/**
+	 * Logs out every open session
+	 *
+	 * @param log
+	 *            where to report logout failures, may be <code>null</code>
+	 */
+	void close(Log log) {
+		List<JiraSession> open;
+		synchronized (this) {
+			open = new ArrayList<JiraSession>(sessions.values());
+			sessions.clear();
+		}
+		for (JiraSession session : open) {
+			try {
+				if (log != null) {
+					log.debug("Logging out from JIRA");
+				}
+				session.logout();
+			} catch (Exception e) {
+				if (log != null) {
+					log.warn("Error when logging out from JIRA", e);
+				}
+			}
+		}
+	}
+
+	private static void registerShutdownHook() {
+		synchronized (MANAGERS) {
+			if (hookRegistered) {
+				return;
+			}
+			hookRegistered = true;
+		}
+		Runtime.getRuntime().addShutdownHook(
+				new Thread("jira-session-logout") {
+					@Override
+					public void run() {
+						List<JiraSessionManager> managers;
+						synchronized (MANAGERS) {
+							managers = new ArrayList<JiraSessionManager>(
+									MANAGERS.values());
+						}
+						for (JiraSessionManager manager : managers) {
+							manager.close(null);
+						}
+					}
+				});
+	}
+}
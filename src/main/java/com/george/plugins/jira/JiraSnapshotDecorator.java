@@ -0,0 +1,172 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * Local snapshot of the JIRA reads needed to build offline.
+ *
+ * While online, the results of the reads used by the goals (versions,
+ * components, issue types, sub-task types, priorities, statuses,
+ * resolutions and JQL searches) are recorded in a {@link MetadataCache} as
+ * they come back from JIRA or from the caches in front of it, replacing the
+ * previous ones, and written once by {@link MetadataCache#flush} when the
+ * execution ends. Searches made on
+ * behalf of another one, such as the ones of an {@link IssueSync}, are not
+ * recorded while the thread making them has paused the recording; the
+ * caller records the result under the original search instead.
+ *
+ * Offline, those reads are answered from the snapshot alone and never reach
+ * the network. A read missing from the snapshot and every update, such as
+ * <code>addVersion</code> or <code>releaseVersion</code>, fail with a
+ * {@link RemoteException}.
+ *
+ */
+class JiraSnapshotDecorator extends JiraServiceDecorator {
+
+	/**
+	 * Token handed to mojos running offline
+	 */
+	static final String OFFLINE_TOKEN = "offline";
+
+	private static final String SEARCH = "getIssuesFromJqlSearch";
+
+	private static final ThreadLocal<Boolean> PAUSED = new ThreadLocal<Boolean>();
+
+	private static final Set<String> RECORDED = new HashSet<String>(
+			Arrays.asList("getVersions", "getComponents", "getIssueTypes",
+					"getSubTaskIssueTypes", "getPriorities", "getStatuses",
+					"getResolutions", SEARCH));
+
+	/**
+	 * Stands for JIRA when offline, refusing any call that would reach it
+	 */
+	private static final JiraSoapService DISCONNECTED = (JiraSoapService) Proxy
+			.newProxyInstance(JiraSoapService.class.getClassLoader(),
+					new Class<?>[]{JiraSoapService.class},
+					new InvocationHandler() {
+						public Object invoke(Object proxy, Method method,
+								Object[] args) throws Throwable {
+							throw new RemoteException("JIRA is offline, "
+									+ method.getName() + " was not sent");
+						}
+					});
+
+	private final MetadataCache snapshot;
+	private final boolean offline;
+
+	private JiraSnapshotDecorator(JiraSoapService delegate,
+			MetadataCache snapshot, boolean offline) {
+		super(delegate);
+		this.snapshot = snapshot;
+		this.offline = offline;
+	}
+
+	/**
+	 * Returns the service recording the reads of the given one
+	 *
+	 * @param jiraService
+	 * @param snapshot
+	 * @return
+	 */
+	static JiraSoapService recording(JiraSoapService jiraService,
+			MetadataCache snapshot) {
+		return new JiraSnapshotDecorator(jiraService, snapshot, false)
+				.decorate();
+	}
+
+	/**
+	 * Returns a service answering from the snapshot only
+	 *
+	 * @param snapshot
+	 * @return
+	 */
+	static JiraSoapService offline(MetadataCache snapshot) {
+		return new JiraSnapshotDecorator(DISCONNECTED, snapshot, true)
+				.decorate();
+	}
+
+	/**
+	 * Stops recording the reads of the current thread
+	 */
+	static void pauseRecording() {
+		PAUSED.set(Boolean.TRUE);
+	}
+
+	/**
+	 * Records the reads of the current thread again
+	 */
+	static void resumeRecording() {
+		PAUSED.remove();
+	}
+
+	/**
+	 * Records the result of a search, as if JIRA had answered it
+	 *
+	 * @param snapshot
+	 * @param jql
+	 * @param maxIssues
+	 * @param issues
+	 */
+	static void recordSearch(MetadataCache snapshot, String jql,
+			int maxIssues, RemoteIssue[] issues) {
+		try {
+			snapshot.record(SEARCH + '\n' + jql + '\n' + maxIssues,
+					JiraBeanCodec.encode(issues));
+		} catch (IOException e) {
+			// Not recorded, the build goes on
+		}
+	}
+
+	@Override
+	protected Object invokeService(Method method, Object[] args)
+			throws Throwable {
+		if (!RECORDED.contains(method.getName())
+				|| (!offline && PAUSED.get() != null)) {
+			return proceed(method, args);
+		}
+		String key = keyOf(method, args);
+		if (offline) {
+			byte[] recorded = snapshot.get(key, Long.MAX_VALUE);
+			if (recorded == null) {
+				throw new RemoteException("JIRA is offline and the snapshot has no "
+						+ key.replace('\n', ' '));
+			}
+			return JiraBeanCodec.decode(recorded);
+		}
+		Object result = proceed(method, args);
+		if (result != null) {
+			try {
+				snapshot.record(key, JiraBeanCodec.encode((Object[]) result));
+			} catch (IOException e) {
+				// Not recorded, the build goes on
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the snapshot key of a read: the operation and its arguments but
+	 * the login token
+	 *
+	 * @param method
+	 * @param args
+	 * @return
+	 */
+	static String keyOf(Method method, Object[] args) {
+		StringBuilder key = new StringBuilder(method.getName());
+		for (int i = 1; i < args.length; i++) {
+			key.append('\n').append(args[i]);
+		}
+		return key.toString();
+	}
+}
@@ -0,0 +1,192 @@
+package com.george.plugins.jira;
+
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.rpc.ServiceException;
+
+import org.apache.axis.EngineConfiguration;
+import org.apache.axis.SimpleTargetedChain;
+import org.apache.axis.configuration.SimpleProvider;
+import org.apache.axis.transport.http.HTTPSender;
+import org.apache.axis.transport.http.HTTPTransport;
+
+/**
+ * HTTP transport used by the SOAP client to reach JIRA.
+ *
+ * <ul>
+ * <li><code>default</code>: Axis' own sender, one connection per call</li>
+ * <li><code>pooled</code>: keep-alive connections from a bounded pool shared
+ * by the whole build</li>
+ * </ul>
+ *
+ * Gzip compression is only available with the pooled transport.
+ *
+ */
+final class JiraTransport {
+
+	static final String DEFAULT = "default";
+	static final String POOLED = "pooled";
+
+	/**
+	 * Senders own the connection pools, so one is kept per pool settings.
+	 * Stubs keep using them, so an idle sender only closes its connections.
+	 */
+	private static final JvmCache<String, PooledHttpSender> SENDERS = new JvmCache<String, PooledHttpSender>() {
+		@Override
+		protected boolean expire(PooledHttpSender value, long idleMillis) {
+			value.closeIdleConnections(idleMillis);
+			return false;
+		}
+	};
+
+	/**
+	 * Axis configurations, built once per transport settings
+	 */
+	private static final ConcurrentMap<String, EngineConfiguration> CONFIGURATIONS = new ConcurrentHashMap<String, EngineConfiguration>();
+
+	private final String name;
+	private final int maxConnectionsPerHost;
+	private final int maxTotalConnections;
+	private final boolean acceptGzip;
+	private final int gzipRequestThreshold;
+
+	private JiraTransport(String name, int maxConnectionsPerHost,
+			int maxTotalConnections, boolean acceptGzip,
+			int gzipRequestThreshold) {
+		this.name = name;
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+		this.maxTotalConnections = maxTotalConnections;
+		this.acceptGzip = acceptGzip;
+		this.gzipRequestThreshold = gzipRequestThreshold;
+	}
+
+	/**
+	 * Returns the transport for the given mojo configuration
+	 *
+	 * @param name
+	 *            transport name, <code>null</code> for the default one
+	 * @param maxConnectionsPerHost
+	 *            pooled connections allowed per JIRA host
+	 * @param maxTotalConnections
+	 *            pooled connections allowed for all hosts
+	 * @return
+	 * @throws ServiceException
+	 *             if the transport is unknown or its limits are invalid
+	 */
+	static JiraTransport valueOf(String name, int maxConnectionsPerHost,
+			int maxTotalConnections) throws ServiceException {
+		if (name == null || DEFAULT.equalsIgnoreCase(name)) {
+			return new JiraTransport(DEFAULT, 0, 0, false, 0);
+		}
+		if (!POOLED.equalsIgnoreCase(name)) {
+			throw new ServiceException("Unknown JIRA transport: " + name
+					+ ". Use " + DEFAULT + " or " + POOLED);
+		}
+		if (maxConnectionsPerHost < 1
+				|| maxTotalConnections < maxConnectionsPerHost) {
+			throw new ServiceException(
+					"Invalid JIRA connection pool limits: "
+							+ maxConnectionsPerHost + " per host, "
+							+ maxTotalConnections + " in total");
+		}
+		return new JiraTransport(POOLED, maxConnectionsPerHost,
+				maxTotalConnections, false, 0);
+	}
+
+	/**
+	 * Returns this transport with gzip compression settings
+	 *
+	 * @param acceptGzip
+	 *            whether to ask JIRA for gzipped responses
+	 * @param gzipRequestThreshold
+	 *            size in bytes above which requests are gzipped, 0 to never
+	 *            compress requests
+	 * @return
+	 * @throws ServiceException
+	 *             if compression is asked from the default transport
+	 */
+	JiraTransport withCompression(boolean acceptGzip, int gzipRequestThreshold)
+			throws ServiceException {
+		if (!acceptGzip && gzipRequestThreshold <= 0) {
+			return this;
+		}
+		if (DEFAULT.equals(name)) {
+			throw new ServiceException("JIRA compression requires the "
+					+ POOLED + " transport");
+		}
+		return new JiraTransport(name, maxConnectionsPerHost,
+				maxTotalConnections, acceptGzip, Math.max(0,
+						gzipRequestThreshold));
+	}
+
+	/**
+	 * Returns a key identifying the connections used by this transport
+	 *
+	 * @return
+	 */
+	String getKey() {
+		if (DEFAULT.equals(name)) {
+			return name;
+		}
+		return name + ':' + maxConnectionsPerHost + ':' + maxTotalConnections
+				+ ':' + acceptGzip + ':' + gzipRequestThreshold;
+	}
+
+	/**
+	 * Returns the Axis configuration routing http and https calls through
+	 * this transport. It is built in code once per JVM, so creating a service
+	 * does not look for <code>client-config.wsdd</code> on the classpath, and
+	 * only deploys the http transport chain.
+	 *
+	 * @return
+	 */
+	EngineConfiguration getEngineConfiguration() {
+		String key = getKey();
+		EngineConfiguration config = CONFIGURATIONS.get(key);
+		if (config == null) {
+			config = createEngineConfiguration();
+			EngineConfiguration existing = CONFIGURATIONS.putIfAbsent(key,
+					config);
+			if (existing != null) {
+				config = existing;
+			}
+		}
+		return config;
+	}
+
+	private EngineConfiguration createEngineConfiguration() {
+		SimpleProvider config = new SimpleProvider();
+		// Same options as the client-config.wsdd shipped with Axis
+		Hashtable<String, String> options = new Hashtable<String, String>();
+		options.put("disablePrettyXML", "true");
+		options.put("enableNamespacePrefixOptimization", "false");
+		config.setGlobalOptions(options);
+		config.deployTransport(HTTPTransport.DEFAULT_TRANSPORT_NAME,
+				new SimpleTargetedChain(DEFAULT.equals(name)
+						? new HTTPSender()
+						: getSender()));
+		return config;
+	}
+
+	private PooledHttpSender getSender() {
+		String key = getKey();
+		PooledHttpSender sender = SENDERS.get(key);
+		if (sender == null) {
+			sender = new PooledHttpSender(maxConnectionsPerHost,
+					maxTotalConnections, acceptGzip, gzipRequestThreshold);
+			PooledHttpSender existing = SENDERS.putIfAbsent(key, sender);
+			if (existing != null) {
+				sender.shutdown();
+				sender = existing;
+			}
+		}
+		return sender;
+	}
+
+	@Override
+	public String toString() {
+		return getKey();
+	}
+}
@@ -0,0 +1,214 @@
+package com.george.plugins.jira;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The subset of JQL that can be answered without JIRA: conjunctions of
+ * <code>=</code> and <code>in</code> conditions on the project, status, fix
+ * version and issue type, such as
+ *
+ * <pre>
+ * project = 'KEY' AND status in (Resolved, Closed) AND fixVersion = '1.0'
+ * </pre>
+ *
+ * Anything else, <code>OR</code>, <code>ORDER BY</code>, other fields or
+ * operators and functions, is left to JIRA.
+ *
+ */
+final class JqlQuery {
+
+	static final String PROJECT = "project";
+	static final String STATUS = "status";
+	static final String FIX_VERSION = "fixversion";
+	static final String TYPE = "type";
+
+	private final List<Clause> clauses;
+
+	private JqlQuery(List<Clause> clauses) {
+		this.clauses = Collections.unmodifiableList(clauses);
+	}
+
+	/**
+	 * Parses a query
+	 *
+	 * @param jql
+	 * @return the query, or <code>null</code> if outside the subset
+	 */
+	static JqlQuery parse(String jql) {
+		List<Token> tokens = tokenize(jql);
+		if (tokens == null || tokens.isEmpty()) {
+			return null;
+		}
+		List<Clause> clauses = new ArrayList<Clause>();
+		int i = 0;
+		while (true) {
+			if (i + 2 >= tokens.size() || tokens.get(i).quoted) {
+				return null;
+			}
+			String field = fieldOf(tokens.get(i++).text);
+			if (field == null) {
+				return null;
+			}
+			Token operator = tokens.get(i++);
+			Set<String> values = new HashSet<String>();
+			if (operator.is("=")) {
+				if (!tokens.get(i).isValue()) {
+					return null;
+				}
+				values.add(normalize(tokens.get(i++).text));
+			} else if (operator.is("in") && tokens.get(i).is("(")) {
+				i++;
+				while (true) {
+					if (i + 1 >= tokens.size() || !tokens.get(i).isValue()) {
+						return null;
+					}
+					values.add(normalize(tokens.get(i++).text));
+					Token next = tokens.get(i++);
+					if (next.is(")")) {
+						break;
+					} else if (!next.is(",")) {
+						return null;
+					}
+				}
+			} else {
+				return null;
+			}
+			clauses.add(new Clause(field, values));
+			if (i == tokens.size()) {
+				return new JqlQuery(clauses);
+			}
+			if (!tokens.get(i++).is("and")) {
+				return null;
+			}
+		}
+	}
+
+	List<Clause> getClauses() {
+		return clauses;
+	}
+
+	/**
+	 * Returns the only project the query is restricted to
+	 *
+	 * @return the project, or <code>null</code> if it may span several
+	 */
+	String getProject() {
+		String project = null;
+		for (Clause clause : clauses) {
+			if (PROJECT.equals(clause.field)) {
+				if (project != null || clause.values.size() != 1) {
+					return null;
+				}
+				project = clause.values.iterator().next();
+			}
+		}
+		return project;
+	}
+
+	/**
+	 * Returns values as compared by JIRA
+	 *
+	 * @param value
+	 * @return
+	 */
+	static String normalize(String value) {
+		return (value == null) ? null : value.toLowerCase(Locale.ENGLISH);
+	}
+
+	private static String fieldOf(String name) {
+		String field = normalize(name);
+		if ("issuetype".equals(field)) {
+			return TYPE;
+		}
+		if (PROJECT.equals(field) || STATUS.equals(field)
+				|| FIX_VERSION.equals(field) || TYPE.equals(field)) {
+			return field;
+		}
+		return null;
+	}
+
+	private static List<Token> tokenize(String jql) {
+		List<Token> tokens = new ArrayList<Token>();
+		int i = 0;
+		int length = jql.length();
+		while (i < length) {
+			char c = jql.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+			} else if (c == '(' || c == ')' || c == ',' || c == '=') {
+				tokens.add(new Token(String.valueOf(c), false));
+				i++;
+			} else if (c == '\'' || c == '"') {
+				StringBuilder value = new StringBuilder();
+				i++;
+				while (i < length && jql.charAt(i) != c) {
+					if (jql.charAt(i) == '\\' && i + 1 < length) {
+						i++;
+					}
+					value.append(jql.charAt(i++));
+				}
+				if (i == length) {
+					return null;
+				}
+				i++;
+				tokens.add(new Token(value.toString(), true));
+			} else {
+				int start = i;
+				while (i < length && !Character.isWhitespace(jql.charAt(i))
+						&& "()=,'\"!~<>".indexOf(jql.charAt(i)) < 0) {
+					i++;
+				}
+				if (i == start) {
+					return null;
+				}
+				tokens.add(new Token(jql.substring(start, i), false));
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * A field matching any of the values
+	 */
+	static final class Clause {
+
+		final String field;
+		final Set<String> values;
+
+		Clause(String field, Set<String> values) {
+			this.field = field;
+			this.values = Collections.unmodifiableSet(values);
+		}
+	}
+
+	private static final class Token {
+
+		final String text;
+		final boolean quoted;
+
+		Token(String text, boolean quoted) {
+			this.text = text;
+			this.quoted = quoted;
+		}
+
+		boolean is(String symbol) {
+			return !quoted && text.equalsIgnoreCase(symbol);
+		}
+
+		/**
+		 * Returns if the token can be a value: quoted, or a plain word
+		 * other than a keyword
+		 */
+		boolean isValue() {
+			return quoted
+					|| !(is("(") || is(")") || is(",") || is("=")
+							|| is("and") || is("or") || is("not")
+							|| is("in") || is("empty") || is("null"));
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package com.george.plugins.jira;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A registry of objects kept by the JVM from one build to the next, such as
+ * SOAP stubs and metadata caches, so that builds run by a long-lived Maven
+ * process start with them ready.
+ *
+ * All the registries share two limits: values not used for the idle timeout
+ * are dropped, and when the estimated size of all the values exceeds the
+ * memory ceiling, the least recently used ones are dropped first. Limits are
+ * applied by the calls themselves, at most every few seconds; no thread is
+ * started, so nothing keeps the plugin class loader alive once the Maven
+ * process discards it, and the registries go with it.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+class JvmCache<K, V> {
+
+	private static final long SWEEP_INTERVAL = 5000;
+
+	private static final List<JvmCache<?, ?>> REGISTRIES = new CopyOnWriteArrayList<JvmCache<?, ?>>();
+	private static final AtomicLong LAST_SWEEP = new AtomicLong(System
+			.currentTimeMillis());
+
+	private static volatile long idleMillis = 30 * 60 * 1000L;
+	private static volatile long maxBytes = 64 * 1024 * 1024L;
+
+	private final ConcurrentMap<K, Holder<V>> values = new ConcurrentHashMap<K, Holder<V>>();
+
+	JvmCache() {
+		REGISTRIES.add(this);
+	}
+
+	/**
+	 * Sets the limits of all the registries
+	 *
+	 * @param idleMillis
+	 *            time after which unused values are dropped, 0 to keep them
+	 * @param maxBytes
+	 *            estimated size of all the values beyond which the least
+	 *            recently used are dropped, 0 for no limit
+	 */
+	static void configure(long idleMillis, long maxBytes) {
+		JvmCache.idleMillis = idleMillis;
+		JvmCache.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the value of the key, marking it as used
+	 *
+	 * @param key
+	 * @return the value, or <code>null</code> if there is none
+	 */
+	V get(K key) {
+		sweepIfDue();
+		Holder<V> holder = values.get(key);
+		if (holder == null) {
+			return null;
+		}
+		holder.lastUsed = System.currentTimeMillis();
+		return holder.value;
+	}
+
+	/**
+	 * Stores a value unless the key already has one
+	 *
+	 * @param key
+	 * @param value
+	 * @return the value already stored, or <code>null</code> if the given
+	 *         one was stored
+	 */
+	V putIfAbsent(K key, V value) {
+		Holder<V> existing = values.putIfAbsent(key, new Holder<V>(value));
+		return (existing == null) ? null : existing.value;
+	}
+
+	/**
+	 * Stores a value, replacing the one of the key
+	 *
+	 * @param key
+	 * @param value
+	 */
+	void put(K key, V value) {
+		values.put(key, new Holder<V>(value));
+	}
+
+	int size() {
+		return values.size();
+	}
+
+	/**
+	 * Returns the estimated memory used by a value
+	 *
+	 * @param value
+	 * @return the size in bytes
+	 */
+	protected long weigh(V value) {
+		return 0;
+	}
+
+	/**
+	 * Called before a value is dropped. Values that must stay, because
+	 * others still refer to them, release what they can and return
+	 * <code>false</code>.
+	 *
+	 * @param value
+	 * @param idleMillis
+	 *            the idle timeout
+	 * @return if the value can be dropped
+	 */
+	protected boolean expire(V value, long idleMillis) {
+		return true;
+	}
+
+	private static void sweepIfDue() {
+		long now = System.currentTimeMillis();
+		long last = LAST_SWEEP.get();
+		if (now - last >= SWEEP_INTERVAL && LAST_SWEEP.compareAndSet(last, now)) {
+			sweep();
+		}
+	}
+
+	/**
+	 * Applies the limits to all the registries
+	 */
+	static void sweep() {
+		long now = System.currentTimeMillis();
+		long idle = idleMillis;
+		List<Candidate> kept = new ArrayList<Candidate>();
+		long total = 0;
+		for (JvmCache<?, ?> registry : REGISTRIES) {
+			total += registry.sweep(now, idle, kept);
+		}
+		long max = maxBytes;
+		if (max <= 0 || total <= max) {
+			return;
+		}
+		// Least recently used first
+		Collections.sort(kept);
+		for (Candidate candidate : kept) {
+			if (total <= max) {
+				break;
+			}
+			if (candidate.drop(idle)) {
+				total -= candidate.weight;
+			}
+		}
+	}
+
+	/**
+	 * Drops the idle values of this registry and lists the others
+	 *
+	 * @return the estimated size of the values kept
+	 */
+	private long sweep(long now, long idle, List<Candidate> kept) {
+		long total = 0;
+		for (Map.Entry<K, Holder<V>> entry : values.entrySet()) {
+			Holder<V> holder = entry.getValue();
+			if (idle > 0 && now - holder.lastUsed >= idle
+					&& expire(holder.value, idle)) {
+				values.remove(entry.getKey(), holder);
+				continue;
+			}
+			long weight = weigh(holder.value);
+			if (weight > 0) {
+				kept.add(new Candidate(this, entry.getKey(), holder, weight));
+				total += weight;
+			}
+		}
+		return total;
+	}
+
+	private boolean drop(Object key, Holder<?> holder, long idle) {
+		@SuppressWarnings("unchecked")
+		Holder<V> typed = (Holder<V>) holder;
+		return expire(typed.value, idle) && values.remove(key, holder);
+	}
+
+	private static final class Holder<V> {
+
+		final V value;
+		volatile long lastUsed = System.currentTimeMillis();
+
+		Holder(V value) {
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A value that may be dropped to get under the memory ceiling
+	 */
+	private static final class Candidate implements Comparable<Candidate> {
+
+		final JvmCache<?, ?> registry;
+		final Object key;
+		final Holder<?> holder;
+		final long lastUsed;
+		final long weight;
+
+		Candidate(JvmCache<?, ?> registry, Object key, Holder<?> holder,
+				long weight) {
+			this.registry = registry;
+			this.key = key;
+			this.holder = holder;
+			this.lastUsed = holder.lastUsed;
+			this.weight = weight;
+		}
+
+		boolean drop(long idle) {
+			return registry.drop(key, holder, idle);
+		}
+
+		public int compareTo(Candidate other) {
+			return (lastUsed < other.lastUsed) ? -1 : (lastUsed == other.lastUsed
+					? 0
+					: 1);
+		}
+	}
+}
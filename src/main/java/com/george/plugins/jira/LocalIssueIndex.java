@@ -0,0 +1,149 @@
+package com.george.plugins.jira;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * All the issues of a project, indexed by status, fix version and issue type
+ * to answer {@link JqlQuery} conditions in memory.
+ *
+ * Each value, by name and by ID, maps to the set of issues having it, so a
+ * query is the intersection of the sets of its conditions. Indexes are kept
+ * by the build, so its modules asking about the same project share one, and
+ * the next build of a long-lived Maven process reads the issues again.
+ *
+ */
+final class LocalIssueIndex {
+
+	/**
+	 * Keyed by the build request, like the JIRA sessions
+	 */
+	private static final Map<Object, Map<String, LocalIssueIndex>> INDEXES = new WeakHashMap<Object, Map<String, LocalIssueIndex>>();
+
+	private final RemoteIssue[] issues;
+	private final Map<String, Map<String, BitSet>> fields = new HashMap<String, Map<String, BitSet>>();
+
+	/**
+	 * @param issues
+	 *            all the issues of the project
+	 * @param constants
+	 *            names of the statuses and issue types
+	 */
+	LocalIssueIndex(RemoteIssue[] issues, IssueConstants constants) {
+		this.issues = issues;
+		for (int i = 0; i < issues.length; i++) {
+			RemoteIssue issue = issues[i];
+			add(JqlQuery.STATUS, issue.getStatus(), i);
+			add(JqlQuery.STATUS, constants.statusOf(issue), i);
+			add(JqlQuery.TYPE, issue.getType(), i);
+			add(JqlQuery.TYPE, constants.typeOf(issue), i);
+			RemoteVersion[] versions = issue.getFixVersions();
+			if (versions != null) {
+				for (RemoteVersion version : versions) {
+					add(JqlQuery.FIX_VERSION, version.getId(), i);
+					add(JqlQuery.FIX_VERSION, version.getName(), i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the index the build keeps for the given key
+	 *
+	 * @param session
+	 *            the build, <code>null</code> if none is kept
+	 * @param key
+	 * @return
+	 */
+	static LocalIssueIndex get(MavenSession session, String key) {
+		if (session == null) {
+			return null;
+		}
+		synchronized (INDEXES) {
+			Map<String, LocalIssueIndex> indexes = INDEXES.get(session
+					.getRequest());
+			return (indexes == null) ? null : indexes.get(key);
+		}
+	}
+
+	static void put(MavenSession session, String key, LocalIssueIndex index) {
+		if (session == null) {
+			return;
+		}
+		synchronized (INDEXES) {
+			Map<String, LocalIssueIndex> indexes = INDEXES.get(session
+					.getRequest());
+			if (indexes == null) {
+				indexes = new HashMap<String, LocalIssueIndex>();
+				INDEXES.put(session.getRequest(), indexes);
+			}
+			indexes.put(key, index);
+		}
+	}
+
+	/**
+	 * Returns the issues matching the query, in the order they were given.
+	 * Project conditions are ignored, the index holds one project.
+	 *
+	 * @param query
+	 * @param maxIssues
+	 *            max number of issues JIRA would return
+	 * @return the issues, or <code>null</code> if more match, as only JIRA
+	 *         knows which of them it would return
+	 */
+	RemoteIssue[] search(JqlQuery query, int maxIssues) {
+		BitSet matching = new BitSet(issues.length);
+		matching.set(0, issues.length);
+		for (JqlQuery.Clause clause : query.getClauses()) {
+			if (JqlQuery.PROJECT.equals(clause.field)) {
+				continue;
+			}
+			Map<String, BitSet> values = fields.get(clause.field);
+			BitSet any = new BitSet(issues.length);
+			if (values != null) {
+				for (String value : clause.values) {
+					BitSet having = values.get(value);
+					if (having != null) {
+						any.or(having);
+					}
+				}
+			}
+			matching.and(any);
+		}
+		if (matching.cardinality() > maxIssues) {
+			return null;
+		}
+		RemoteIssue[] found = new RemoteIssue[matching.cardinality()];
+		int n = 0;
+		for (int i = matching.nextSetBit(0); i >= 0; i = matching
+				.nextSetBit(i + 1)) {
+			found[n++] = issues[i];
+		}
+		return found;
+	}
+
+	private void add(String field, String value, int issue) {
+		if (value == null) {
+			return;
+		}
+		Map<String, BitSet> values = fields.get(field);
+		if (values == null) {
+			values = new HashMap<String, BitSet>();
+			fields.put(field, values);
+		}
+		String normalized = JqlQuery.normalize(value);
+		BitSet having = values.get(normalized);
+		if (having == null) {
+			having = new BitSet();
+			values.put(normalized, having);
+		}
+		having.set(issue);
+	}
+}
@@ -0,0 +1,188 @@
+package com.george.plugins.jira;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A JIRA login token kept on disk between builds.
+ *
+ * The token is encrypted with AES, using a key derived from the JIRA URL,
+ * user and password, so reading it requires the credentials it was issued
+ * for. It is never checked on its own: JIRA rejects it on first use once
+ * expired, and a new login follows. Any problem reading the file simply
+ * means logging in.
+ *
+ */
+class LoginTokenCache {
+
+	/**
+	 * "JTK" followed by the format version
+	 */
+	private static final int MAGIC = 0x4A544B01;
+
+	private static final int SALT_LENGTH = 16;
+	private static final int KEY_ITERATIONS = 10000;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final File file;
+	private final String url;
+	private final String user;
+	private final String password;
+
+	/**
+	 * @param file
+	 * @param url
+	 *            JIRA Web Service URL
+	 * @param user
+	 * @param password
+	 */
+	LoginTokenCache(File file, String url, String user, String password) {
+		this.file = file;
+		this.url = url;
+		this.user = user;
+		this.password = password;
+	}
+
+	/**
+	 * Returns the file name used for the token of a JIRA user
+	 *
+	 * @param jiraURL
+	 * @param user
+	 * @return
+	 */
+	static String fileName(String jiraURL, String user) {
+		return MetadataCache.baseName(jiraURL, user) + "-token.bin";
+	}
+
+	/**
+	 * Returns the kept token
+	 *
+	 * @return the token, or <code>null</code> if there is none or it cannot
+	 *         be decrypted with the current credentials
+	 */
+	String load() {
+		if (password == null || !file.isFile()) {
+			return null;
+		}
+		try {
+			DataInputStream in = new DataInputStream(new FileInputStream(file));
+			byte[] salt = new byte[SALT_LENGTH];
+			byte[] iv;
+			byte[] encrypted;
+			try {
+				if (in.readInt() != MAGIC) {
+					return null;
+				}
+				in.readFully(salt);
+				iv = new byte[in.readUnsignedByte()];
+				in.readFully(iv);
+				encrypted = new byte[in.readInt()];
+				in.readFully(encrypted);
+			} finally {
+				in.close();
+			}
+			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+			cipher.init(Cipher.DECRYPT_MODE, keyOf(salt),
+					new IvParameterSpec(iv));
+			DataInputStream plain = new DataInputStream(
+					new ByteArrayInputStream(cipher.doFinal(encrypted)));
+			if (plain.readInt() != MAGIC) {
+				return null;
+			}
+			return plain.readUTF();
+		} catch (IOException e) {
+			return null;
+		} catch (GeneralSecurityException e) {
+			// Other credentials or corrupt file
+			return null;
+		}
+	}
+
+	/**
+	 * Keeps a token, readable by the current OS user only. Failures are
+	 * ignored: the next build will log in.
+	 *
+	 * @param token
+	 */
+	void save(String token) {
+		if (password == null) {
+			return;
+		}
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream plain = new DataOutputStream(bytes);
+			plain.writeInt(MAGIC);
+			plain.writeUTF(token);
+			byte[] salt = new byte[SALT_LENGTH];
+			RANDOM.nextBytes(salt);
+			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+			cipher.init(Cipher.ENCRYPT_MODE, keyOf(salt), RANDOM);
+			byte[] encrypted = cipher.doFinal(bytes.toByteArray());
+			byte[] iv = cipher.getIV();
+
+			File dir = file.getParentFile();
+			if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+				return;
+			}
+			// A file of its own, other builds may save at the same time
+			File tmp = File.createTempFile(file.getName() + ".", ".tmp", dir);
+			try {
+				FileOutputStream stream = new FileOutputStream(tmp);
+				tmp.setReadable(false, false);
+				tmp.setReadable(true, true);
+				DataOutputStream out = new DataOutputStream(stream);
+				try {
+					out.writeInt(MAGIC);
+					out.write(salt);
+					out.writeByte(iv.length);
+					out.write(iv);
+					out.writeInt(encrypted.length);
+					out.write(encrypted);
+				} finally {
+					out.close();
+				}
+				if (!tmp.renameTo(file) && file.delete()) {
+					tmp.renameTo(file);
+				}
+			} finally {
+				// Left over if it could not replace the kept token
+				tmp.delete();
+			}
+		} catch (IOException e) {
+			clear();
+		} catch (GeneralSecurityException e) {
+			clear();
+		}
+	}
+
+	/**
+	 * Forgets the kept token
+	 */
+	void clear() {
+		file.delete();
+	}
+
+	private SecretKeySpec keyOf(byte[] salt) throws GeneralSecurityException {
+		char[] secret = (url + '\n' + user + '\n' + password).toCharArray();
+		byte[] key = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA1")
+				.generateSecret(
+						new PBEKeySpec(secret, salt, KEY_ITERATIONS, 128))
+				.getEncoded();
+		return new SecretKeySpec(key, "AES");
+	}
+}
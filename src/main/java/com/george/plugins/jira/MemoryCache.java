@@ -0,0 +1,243 @@
+package com.george.plugins.jira;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JIRA results kept in memory for the whole build.
+ *
+ * Entries are spread over segments, each one a small LRU map with its own
+ * lock, so executions reading different keys do not wait for each other.
+ * Values are stored encoded and decoded on every read: callers always get
+ * new beans and can never alter a cached entry. Arrays supported by
+ * {@link JiraBeanCodec} use its compact form, other results are serialized.
+ * Caches are kept by the {@link JvmCache} of the Maven process, so later
+ * builds of a long-lived process find them warm.
+ *
+ */
+class MemoryCache {
+
+	private static final int SEGMENTS = 16;
+
+	private static final JvmCache<String, MemoryCache> CACHES = new JvmCache<String, MemoryCache>() {
+		@Override
+		protected long weigh(MemoryCache value) {
+			return value.weight();
+		}
+	};
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	/**
+	 * @param maxEntries
+	 *            entries kept, the least recently used ones are evicted
+	 *            beyond it
+	 */
+	MemoryCache(int maxEntries) {
+		int perSegment = Math.max(1, (maxEntries + SEGMENTS - 1) / SEGMENTS);
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment(perSegment);
+		}
+	}
+
+	/**
+	 * Returns the cache of the given owner, typically a JIRA URL and user,
+	 * creating it with the given size if needed
+	 *
+	 * @param owner
+	 * @param maxEntries
+	 * @return
+	 */
+	static MemoryCache forOwner(String owner, int maxEntries) {
+		MemoryCache cache = CACHES.get(owner);
+		if (cache == null) {
+			cache = new MemoryCache(maxEntries);
+			MemoryCache existing = CACHES.putIfAbsent(owner, cache);
+			if (existing != null) {
+				cache = existing;
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns a copy of an entry stored less than <code>ttlMillis</code> ago
+	 *
+	 * @param key
+	 * @param ttlMillis
+	 * @return the copy, or <code>null</code> if missing or expired
+	 */
+	Object get(String key, long ttlMillis) {
+		CachedValue entry = segmentOf(key).get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (System.currentTimeMillis() - entry.storedAt >= ttlMillis) {
+			segmentOf(key).remove(key, entry);
+			return null;
+		}
+		try {
+			return entry.decode();
+		} catch (IOException e) {
+			segmentOf(key).remove(key, entry);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a result. Results that cannot be copied are not stored.
+	 *
+	 * @param key
+	 * @param value
+	 */
+	void put(String key, Object value) {
+		CachedValue entry;
+		try {
+			entry = CachedValue.encode(value);
+		} catch (IOException e) {
+			return;
+		}
+		if (entry != null) {
+			segmentOf(key).put(key, entry);
+		}
+	}
+
+	void invalidate(String key) {
+		segmentOf(key).remove(key, null);
+	}
+
+	/**
+	 * Returns the number of entries, expired ones included
+	 *
+	 * @return
+	 */
+	int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the memory used by the entries, roughly
+	 *
+	 * @return the size in bytes
+	 */
+	long weight() {
+		long weight = 0;
+		for (Segment segment : segments) {
+			weight += segment.weight();
+		}
+		return weight;
+	}
+
+	private Segment segmentOf(String key) {
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return segments[h & (SEGMENTS - 1)];
+	}
+
+	/**
+	 * Part of the cache guarded by its own lock
+	 */
+	private static final class Segment {
+
+		private final Map<String, CachedValue> entries;
+
+		Segment(final int maxEntries) {
+			entries = new LinkedHashMap<String, CachedValue>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(
+						Map.Entry<String, CachedValue> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		synchronized CachedValue get(String key) {
+			return entries.get(key);
+		}
+
+		synchronized void put(String key, CachedValue entry) {
+			entries.put(key, entry);
+		}
+
+		/**
+		 * Removes the entry of the key, only if it is the given one unless
+		 * <code>null</code>
+		 */
+		synchronized void remove(String key, CachedValue entry) {
+			if (entry == null || entries.get(key) == entry) {
+				entries.remove(key);
+			}
+		}
+
+		synchronized int size() {
+			return entries.size();
+		}
+
+		synchronized long weight() {
+			long weight = 0;
+			for (Map.Entry<String, CachedValue> entry : entries.entrySet()) {
+				weight += 2 * entry.getKey().length()
+						+ entry.getValue().encoded.length + 64;
+			}
+			return weight;
+		}
+	}
+
+	/**
+	 * An encoded result
+	 */
+	private static final class CachedValue {
+
+		final long storedAt = System.currentTimeMillis();
+		final byte[] encoded;
+		final boolean serialized;
+
+		private CachedValue(byte[] encoded, boolean serialized) {
+			this.encoded = encoded;
+			this.serialized = serialized;
+		}
+
+		static CachedValue encode(Object value) throws IOException {
+			if (value instanceof Object[]
+					&& JiraBeanCodec.supports(value.getClass())) {
+				return new CachedValue(JiraBeanCodec.encode((Object[]) value),
+						false);
+			}
+			if (!(value instanceof Serializable)) {
+				return null;
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			ObjectOutputStream out = new ObjectOutputStream(bytes);
+			out.writeObject(value);
+			out.close();
+			return new CachedValue(bytes.toByteArray(), true);
+		}
+
+		Object decode() throws IOException {
+			if (!serialized) {
+				return JiraBeanCodec.decode(encoded);
+			}
+			ObjectInputStream in = new ObjectInputStream(
+					new ByteArrayInputStream(encoded));
+			try {
+				return in.readObject();
+			} catch (ClassNotFoundException e) {
+				throw new IOException(e.getMessage());
+			} finally {
+				in.close();
+			}
+		}
+	}
+}
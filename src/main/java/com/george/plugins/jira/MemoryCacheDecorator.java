@@ -0,0 +1,118 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteProject;
+
+/**
+ * Serves repeated JIRA reads of the build from a {@link MemoryCache}.
+ *
+ * <ul>
+ * <li><code>getVersions</code> and <code>getProjectByKey</code> are cached
+ * per project for the project time to live</li>
+ * <li><code>getIssueTypes</code>, <code>getSubTaskIssueTypes</code>,
+ * <code>getStatuses</code>, <code>getPriorities</code> and
+ * <code>getCustomFields</code> are cached for the constants time to live</li>
+ * </ul>
+ *
+ * Updates made through this service evict what they change: adding,
+ * releasing or archiving a version evicts the versions of its project,
+ * updating or deleting a project evicts the project and its versions.
+ *
+ */
+class MemoryCacheDecorator extends JiraServiceDecorator {
+
+	private static final String GET_VERSIONS = "getVersions";
+	private static final String GET_PROJECT = "getProjectByKey";
+
+	private final MemoryCache cache;
+	private final Map<String, Long> ttls = new HashMap<String, Long>();
+
+	/**
+	 * @param delegate
+	 * @param cache
+	 * @param projectTtlMillis
+	 *            time to live of versions and projects
+	 * @param constantsTtlMillis
+	 *            time to live of issue types, statuses, priorities and custom
+	 *            fields
+	 */
+	MemoryCacheDecorator(JiraSoapService delegate, MemoryCache cache,
+			long projectTtlMillis, long constantsTtlMillis) {
+		super(delegate);
+		this.cache = cache;
+		ttls.put(GET_VERSIONS, projectTtlMillis);
+		ttls.put(GET_PROJECT, projectTtlMillis);
+		ttls.put("getIssueTypes", constantsTtlMillis);
+		ttls.put("getSubTaskIssueTypes", constantsTtlMillis);
+		ttls.put("getStatuses", constantsTtlMillis);
+		ttls.put("getPriorities", constantsTtlMillis);
+		ttls.put("getCustomFields", constantsTtlMillis);
+	}
+
+	@Override
+	protected Object invokeService(Method method, Object[] args)
+			throws Throwable {
+		String name = method.getName();
+		Long ttl = ttls.get(name);
+		if (ttl == null) {
+			String[] evicted = evictedBy(name, args);
+			if (evicted == null) {
+				return proceed(method, args);
+			}
+			try {
+				return proceed(method, args);
+			} finally {
+				for (String key : evicted) {
+					cache.invalidate(key);
+				}
+			}
+		}
+		if (ttl <= 0) {
+			return proceed(method, args);
+		}
+		String key = (args.length > 1) ? keyOf(name, (String) args[1]) : name;
+		Object cached = cache.get(key, ttl);
+		if (cached != null) {
+			return cached;
+		}
+		Object result = proceed(method, args);
+		if (result != null) {
+			cache.put(key, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the keys changed by an update
+	 *
+	 * @param operation
+	 * @param args
+	 * @return the keys, or <code>null</code> if the operation changes none of
+	 *         the cached results
+	 */
+	static String[] evictedBy(String operation, Object[] args) {
+		if ("addVersion".equals(operation)
+				|| "releaseVersion".equals(operation)
+				|| "archiveVersion".equals(operation)) {
+			return new String[]{keyOf(GET_VERSIONS, (String) args[1])};
+		}
+		String projectKey;
+		if ("deleteProject".equals(operation)) {
+			projectKey = (String) args[1];
+		} else if ("updateProject".equals(operation) && args[1] != null) {
+			projectKey = ((RemoteProject) args[1]).getKey();
+		} else {
+			return null;
+		}
+		return new String[]{keyOf(GET_VERSIONS, projectKey),
+				keyOf(GET_PROJECT, projectKey)};
+	}
+
+	static String keyOf(String operation, String projectKey) {
+		return operation + ' ' + projectKey;
+	}
+}
@@ -0,0 +1,288 @@
+package com.george.plugins.jira;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JIRA project metadata kept on disk between builds, also used for the
+ * offline snapshot.
+ *
+ * Entries are encoded with {@link JiraBeanCodec} and stored with the time
+ * they were fetched, so each reader applies its own time to live. The whole
+ * file is read on first use and rewritten, through a temporary file renamed
+ * over it, whenever an entry changes, or on {@link #flush} for the entries
+ * recorded in bulk, such as the reads of the snapshot. One instance is
+ * shared per file by all the executions of the JVM, until it is dropped by
+ * the {@link JvmCache} limits, which keep it while it has entries to flush.
+ * An execution may still hold a dropped instance, or another process write
+ * the file, so the file is read again whenever its size or modification
+ * time changed, keeping the entries recorded but not flushed yet.
+ *
+ */
+class MetadataCache {
+
+	/**
+	 * "JMC" followed by the format version
+	 */
+	private static final int MAGIC = 0x4A4D4301;
+
+	private static final JvmCache<File, MetadataCache> CACHES = new JvmCache<File, MetadataCache>() {
+		@Override
+		protected long weigh(MetadataCache value) {
+			return value.weight();
+		}
+
+		@Override
+		protected boolean expire(MetadataCache value, long idleMillis) {
+			return !value.isDirty();
+		}
+	};
+
+	private final File file;
+	private Map<String, Entry> entries;
+	private final Map<String, Entry> recorded = new HashMap<String, Entry>();
+	private long length = -1;
+	private long lastModified;
+
+	MetadataCache(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns the cache stored in the given file
+	 *
+	 * @param file
+	 * @return
+	 */
+	static MetadataCache forFile(File file) {
+		File key = file.getAbsoluteFile();
+		MetadataCache cache = CACHES.get(key);
+		if (cache == null) {
+			cache = new MetadataCache(key);
+			MetadataCache existing = CACHES.putIfAbsent(key, cache);
+			if (existing != null) {
+				cache = existing;
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns the file name used for the metadata of a JIRA user
+	 *
+	 * @param jiraURL
+	 * @param user
+	 * @return
+	 */
+	static String fileName(String jiraURL, String user) {
+		return baseName(jiraURL, user) + ".bin";
+	}
+
+	/**
+	 * Returns the file name used for the offline snapshot of a JIRA user
+	 *
+	 * @param jiraURL
+	 * @param user
+	 * @return
+	 */
+	static String snapshotFileName(String jiraURL, String user) {
+		return baseName(jiraURL, user) + "-snapshot.bin";
+	}
+
+	/**
+	 * Returns the name shared by the files of a JIRA user, without extension
+	 *
+	 * @param jiraURL
+	 * @param user
+	 * @return
+	 */
+	static String baseName(String jiraURL, String user) {
+		return "jira-" + Integer.toHexString((jiraURL + '\n' + user).hashCode());
+	}
+
+	/**
+	 * Returns an entry fetched less than <code>ttlMillis</code> ago
+	 *
+	 * @param key
+	 * @param ttlMillis
+	 * @return the encoded entry, or <code>null</code> if missing or expired
+	 */
+	synchronized byte[] get(String key, long ttlMillis) {
+		Entry entry = entries().get(key);
+		if (entry == null
+				|| System.currentTimeMillis() - entry.fetchedAt >= ttlMillis) {
+			return null;
+		}
+		return entry.value;
+	}
+
+	synchronized void put(String key, byte[] value) {
+		entries().put(key, new Entry(System.currentTimeMillis(), value));
+		store();
+	}
+
+	/**
+	 * Adds an entry in memory only, written by the next {@link #flush}
+	 *
+	 * @param key
+	 * @param value
+	 */
+	synchronized void record(String key, byte[] value) {
+		Entry entry = new Entry(System.currentTimeMillis(), value);
+		entries().put(key, entry);
+		recorded.put(key, entry);
+	}
+
+	/**
+	 * Writes the entries recorded since the file was last written
+	 */
+	synchronized void flush() {
+		if (!recorded.isEmpty()) {
+			entries();
+			store();
+		}
+	}
+
+	/**
+	 * Returns if entries were recorded but not written yet
+	 *
+	 * @return
+	 */
+	synchronized boolean isDirty() {
+		return !recorded.isEmpty();
+	}
+
+	synchronized void invalidate(String key) {
+		if (entries().remove(key) != null) {
+			store();
+		}
+	}
+
+	/**
+	 * Returns the memory used by the entries read, roughly
+	 *
+	 * @return the size in bytes
+	 */
+	synchronized long weight() {
+		if (entries == null) {
+			return 0;
+		}
+		long weight = 0;
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			weight += 2 * entry.getKey().length()
+					+ entry.getValue().value.length + 64;
+		}
+		return weight;
+	}
+
+	/**
+	 * Writes the entries to disk. If that fails the file is deleted, so a
+	 * later build never reads an entry invalidated since.
+	 */
+	private void store() {
+		recorded.clear();
+		try {
+			save();
+		} catch (IOException e) {
+			file.delete();
+		}
+		length = file.length();
+		lastModified = file.lastModified();
+	}
+
+	/**
+	 * Returns the entries, reading the file again if it changed since it was
+	 * last read or written
+	 */
+	private Map<String, Entry> entries() {
+		if (entries == null || file.length() != length
+				|| file.lastModified() != lastModified) {
+			entries = new HashMap<String, Entry>();
+			length = file.length();
+			lastModified = file.lastModified();
+			if (file.isFile()) {
+				try {
+					load();
+				} catch (IOException e) {
+					// Unreadable or older format: start over
+					entries.clear();
+				}
+			}
+			entries.putAll(recorded);
+		}
+		return entries;
+	}
+
+	private void load() throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(file)));
+		try {
+			if (in.readInt() != MAGIC) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				long fetchedAt = in.readLong();
+				byte[] value = new byte[in.readInt()];
+				in.readFully(value);
+				entries.put(key, new Entry(fetchedAt, value));
+			}
+		} finally {
+			in.close();
+		}
+	}
+
+	private void save() throws IOException {
+		File dir = file.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Cannot create " + dir);
+		}
+		// A file of its own, other processes may save at the same time
+		File tmp = File.createTempFile(file.getName() + ".", ".tmp", dir);
+		boolean written = false;
+		try {
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(tmp)));
+			try {
+				out.writeInt(MAGIC);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeLong(entry.getValue().fetchedAt);
+					out.writeInt(entry.getValue().value.length);
+					out.write(entry.getValue().value);
+				}
+			} finally {
+				out.close();
+			}
+			if (!tmp.renameTo(file) && !(file.delete() && tmp.renameTo(file))) {
+				throw new IOException("Cannot replace " + file);
+			}
+			written = true;
+		} finally {
+			if (!written) {
+				tmp.delete();
+			}
+		}
+	}
+
+	private static class Entry {
+
+		final long fetchedAt;
+		final byte[] value;
+
+		Entry(long fetchedAt, byte[] value) {
+			this.fetchedAt = fetchedAt;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * Serves JIRA project metadata from a {@link MetadataCache}.
+ *
+ * <ul>
+ * <li><code>getVersions</code> and <code>getComponents</code> are cached per
+ * project for the project time to live</li>
+ * <li><code>getIssueTypes</code>, <code>getSubTaskIssueTypes</code>,
+ * <code>getPriorities</code>, <code>getStatuses</code> and
+ * <code>getResolutions</code> are cached for the constants time to live</li>
+ * </ul>
+ *
+ * The versions of a project are dropped from the cache whenever this service
+ * adds, releases or archives one of them.
+ *
+ */
+class MetadataCacheDecorator extends JiraServiceDecorator {
+
+	private static final Set<String> PROJECT_METADATA = new HashSet<String>(
+			Arrays.asList("getVersions", "getComponents"));
+	private static final Set<String> CONSTANTS = new HashSet<String>(
+			Arrays.asList("getIssueTypes", "getSubTaskIssueTypes",
+					"getPriorities", "getStatuses", "getResolutions"));
+	private static final Set<String> VERSION_UPDATES = new HashSet<String>(
+			Arrays.asList("addVersion", "releaseVersion", "archiveVersion"));
+
+	private final MetadataCache cache;
+	private final long projectTtlMillis;
+	private final long constantsTtlMillis;
+
+	/**
+	 * @param delegate
+	 * @param cache
+	 * @param projectTtlMillis
+	 *            time to live of versions and components
+	 * @param constantsTtlMillis
+	 *            time to live of issue types, priorities, statuses and
+	 *            resolutions
+	 */
+	MetadataCacheDecorator(JiraSoapService delegate, MetadataCache cache,
+			long projectTtlMillis, long constantsTtlMillis) {
+		super(delegate);
+		this.cache = cache;
+		this.projectTtlMillis = projectTtlMillis;
+		this.constantsTtlMillis = constantsTtlMillis;
+	}
+
+	@Override
+	protected Object invokeService(Method method, Object[] args)
+			throws Throwable {
+		String name = method.getName();
+		if (VERSION_UPDATES.contains(name)) {
+			try {
+				return proceed(method, args);
+			} finally {
+				cache.invalidate(keyOf("getVersions", (String) args[1]));
+			}
+		}
+		long ttl;
+		String key;
+		if (PROJECT_METADATA.contains(name)) {
+			ttl = projectTtlMillis;
+			key = keyOf(name, (String) args[1]);
+		} else if (CONSTANTS.contains(name)) {
+			ttl = constantsTtlMillis;
+			key = name;
+		} else {
+			return proceed(method, args);
+		}
+		if (ttl <= 0) {
+			return proceed(method, args);
+		}
+		byte[] cached = cache.get(key, ttl);
+		if (cached != null) {
+			try {
+				return JiraBeanCodec.decode(cached);
+			} catch (IOException e) {
+				// Corrupt entry: fetch it again
+			}
+		}
+		Object result = proceed(method, args);
+		if (result != null) {
+			cache.put(key, JiraBeanCodec.encode((Object[]) result));
+		}
+		return result;
+	}
+
+	static String keyOf(String operation, String projectKey) {
+		return operation + ' ' + projectKey;
+	}
+}
@@ -0,0 +1,181 @@
+package com.george.plugins.jira;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Lookups known to find nothing in JIRA, such as a wrong project key, a
+ * version not created yet or a release notes query without issues,
+ * remembered for a short while so the other executions of the build do not
+ * repeat them.
+ *
+ * Keys are kept as 64-bit fingerprints in an open addressing table, along
+ * with their expiry time, so even thousands of misses take a few pages of
+ * memory.
+ *
+ */
+class NegativeCache {
+
+	/**
+	 * Keyed by the build request, like the JIRA sessions
+	 */
+	private static final Map<Object, NegativeCache> CACHES = new WeakHashMap<Object, NegativeCache>();
+
+	private final long ttlMillis;
+	private long[] fingerprints = new long[16];
+	private long[] expiresAt = new long[16];
+	private int used;
+
+	/**
+	 * @param ttlMillis
+	 *            how long a miss is remembered
+	 */
+	NegativeCache(long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+	}
+
+	/**
+	 * Returns the cache of the given build, creating it with the given time
+	 * to live if needed
+	 *
+	 * @param session
+	 *            the build, <code>null</code> for a cache of its own
+	 * @param ttlMillis
+	 * @return
+	 */
+	static NegativeCache forBuild(MavenSession session, long ttlMillis) {
+		if (session == null) {
+			return new NegativeCache(ttlMillis);
+		}
+		synchronized (CACHES) {
+			Object key = session.getRequest();
+			NegativeCache cache = CACHES.get(key);
+			if (cache == null) {
+				cache = new NegativeCache(ttlMillis);
+				CACHES.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	static String projectKey(String projectKey) {
+		return "project\n" + projectKey;
+	}
+
+	static String versionKey(String projectKey, String version) {
+		return "version\n" + projectKey + '\n' + version;
+	}
+
+	static String searchKey(String jql) {
+		return "jql\n" + jql;
+	}
+
+	/**
+	 * Returns if the key was recorded as missing and has not expired
+	 *
+	 * @param key
+	 * @return
+	 */
+	synchronized boolean contains(String key) {
+		int slot = slotOf(fingerprintOf(key));
+		return fingerprints[slot] != 0
+				&& expiresAt[slot] > System.currentTimeMillis();
+	}
+
+	synchronized void add(String key) {
+		if (ttlMillis <= 0) {
+			return;
+		}
+		if ((used + 1) * 2 > fingerprints.length) {
+			rehash();
+		}
+		long fingerprint = fingerprintOf(key);
+		int slot = slotOf(fingerprint);
+		if (fingerprints[slot] == 0) {
+			fingerprints[slot] = fingerprint;
+			used++;
+		}
+		expiresAt[slot] = System.currentTimeMillis() + ttlMillis;
+	}
+
+	/**
+	 * Forgets a key, once it is known to exist
+	 *
+	 * @param key
+	 */
+	synchronized void remove(String key) {
+		int slot = slotOf(fingerprintOf(key));
+		if (fingerprints[slot] != 0) {
+			// The slot stays taken so probing goes on, but never matches
+			expiresAt[slot] = 0;
+		}
+	}
+
+	/**
+	 * Returns the slot of the fingerprint, or the empty slot where it belongs
+	 */
+	private int slotOf(long fingerprint) {
+		int mask = fingerprints.length - 1;
+		int slot = (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+		while (fingerprints[slot] != 0 && fingerprints[slot] != fingerprint) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Grows the table, dropping expired keys
+	 */
+	private void rehash() {
+		long now = System.currentTimeMillis();
+		long[] oldFingerprints = fingerprints;
+		long[] oldExpiresAt = expiresAt;
+		int live = 0;
+		for (int i = 0; i < oldFingerprints.length; i++) {
+			if (oldFingerprints[i] != 0 && oldExpiresAt[i] > now) {
+				live++;
+			}
+		}
+		int capacity = 16;
+		while (capacity < (live + 1) * 4) {
+			capacity <<= 1;
+		}
+		fingerprints = new long[capacity];
+		expiresAt = new long[capacity];
+		used = 0;
+		for (int i = 0; i < oldFingerprints.length; i++) {
+			if (oldFingerprints[i] != 0 && oldExpiresAt[i] > now) {
+				int slot = slotOf(oldFingerprints[i]);
+				fingerprints[slot] = oldFingerprints[i];
+				expiresAt[slot] = oldExpiresAt[i];
+				used++;
+			}
+		}
+	}
+
+	/**
+	 * 64-bit FNV-1a hash of the key, never 0 as it marks empty slots
+	 */
+	private static long fingerprintOf(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return (hash == 0) ? 1 : hash;
+	}
+
+	/**
+	 * Thrown instead of repeating a lookup known to find nothing
+	 */
+	static class Miss extends com.atlassian.jira.rpc.soap.client.RemoteException {
+
+		private static final long serialVersionUID = 1L;
+
+		Miss(String message) {
+			setFaultString(message);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.Method;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * Answers lookups of projects recorded as missing in a
+ * {@link NegativeCache} without calling JIRA.
+ *
+ * Only a genuine answer records a project as missing:
+ * <code>getProjectByKey</code> returning <code>null</code>. Failures, which
+ * may as well be a permission or a server error, are never recorded. Later
+ * <code>getVersions</code>, <code>getComponents</code> and
+ * <code>getProjectByKey</code> calls for a missing project throw a
+ * {@link NegativeCache.Miss}. Adding or updating a version of a project
+ * forgets the project and the version.
+ *
+ */
+class NegativeCacheDecorator extends JiraServiceDecorator {
+
+	private final NegativeCache cache;
+
+	/**
+	 * @param delegate
+	 * @param cache
+	 */
+	NegativeCacheDecorator(JiraSoapService delegate, NegativeCache cache) {
+		super(delegate);
+		this.cache = cache;
+	}
+
+	@Override
+	protected Object invokeService(Method method, Object[] args)
+			throws Throwable {
+		String name = method.getName();
+		String key = missKeyOf(name, args);
+		if (key == null) {
+			String[] found = foundBy(name, args);
+			if (found != null) {
+				for (String each : found) {
+					cache.remove(each);
+				}
+			}
+			return proceed(method, args);
+		}
+		if (cache.contains(key)) {
+			throw new NegativeCache.Miss(key.replace('\n', ' ')
+					+ " is known to be missing in JIRA, " + name
+					+ " was not sent again");
+		}
+		Object result = proceed(method, args);
+		if (result == null && "getProjectByKey".equals(name)) {
+			cache.add(key);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the key of the project a lookup needs
+	 *
+	 * @param operation
+	 * @param args
+	 * @return the key, or <code>null</code> if the operation is not a lookup
+	 */
+	static String missKeyOf(String operation, Object[] args) {
+		if ("getVersions".equals(operation)
+				|| "getComponents".equals(operation)
+				|| "getProjectByKey".equals(operation)) {
+			return NegativeCache.projectKey((String) args[1]);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the keys known to exist after an update
+	 *
+	 * @param operation
+	 * @param args
+	 * @return the keys, or <code>null</code> if the operation creates nothing
+	 *         looked up
+	 */
+	static String[] foundBy(String operation, Object[] args) {
+		if (("addVersion".equals(operation)
+				|| "releaseVersion".equals(operation) || "archiveVersion"
+					.equals(operation)) && args.length > 2) {
+			String projectKey = (String) args[1];
+			String version = (args[2] instanceof RemoteVersion)
+					? ((RemoteVersion) args[2]).getName()
+					: (String) args[2];
+			return new String[]{NegativeCache.projectKey(projectKey),
+					NegativeCache.versionKey(projectKey, version)};
+		}
+		return null;
+	}
+}
@@ -0,0 +1,296 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.rmi.RemoteException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import org.apache.maven.plugin.logging.Log;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteComponent;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+
+/**
+ * Splits a JQL search into partitions searched at the same time through a
+ * {@link JiraClient}, whose executor bounds how many run together.
+ *
+ * <ul>
+ * <li><code>type</code>: one partition per issue type, and one for the
+ * types not listed, such as sub-tasks</li>
+ * <li><code>component</code>: one partition per component of the project,
+ * and one for issues without component or with components not listed</li>
+ * <li><code>created</code>: creation date ranges of the same length, from
+ * the oldest issue found to now</li>
+ * </ul>
+ *
+ * A project without issue types or components to split by is searched
+ * whole, in a single search.
+ *
+ * Results are merged by issue key, so an issue found by two partitions, such
+ * as one with two components, is listed once, and sorted by key whatever
+ * the ordering of the query.
+ *
+ */
+final class PartitionedSearch {
+
+	static final String TYPE = "type";
+	static final String COMPONENT = "component";
+	static final String CREATED = "created";
+
+	/**
+	 * Orders keys by project, then by number, as JIRA does
+	 */
+	static final Comparator<String> KEY_ORDER = new Comparator<String>() {
+		public int compare(String a, String b) {
+			int dashA = a.lastIndexOf('-');
+			int dashB = b.lastIndexOf('-');
+			if (dashA < 0 || dashB < 0) {
+				return a.compareTo(b);
+			}
+			int projects = a.substring(0, dashA).compareTo(
+					b.substring(0, dashB));
+			if (projects != 0) {
+				return projects;
+			}
+			try {
+				long numberA = Long.parseLong(a.substring(dashA + 1));
+				long numberB = Long.parseLong(b.substring(dashB + 1));
+				return (numberA < numberB) ? -1 : (numberA == numberB)
+						? 0
+						: 1;
+			} catch (NumberFormatException e) {
+				return a.compareTo(b);
+			}
+		}
+	};
+
+	private PartitionedSearch() {
+	}
+
+	/**
+	 * Returns the conditions splitting a search
+	 *
+	 * @param client
+	 * @param jql
+	 *            the search, without ordering
+	 * @param partitionBy
+	 *            <code>type</code>, <code>component</code> or
+	 *            <code>created</code>
+	 * @param projectKey
+	 *            project of the components
+	 * @param dateRanges
+	 *            number of creation date ranges
+	 * @return the conditions, disjoint except for issues with several
+	 *         components, or none if the search cannot be split
+	 * @throws RemoteException
+	 */
+	static List<String> partitions(JiraClient client, String jql,
+			String partitionBy, String projectKey, int dateRanges)
+			throws RemoteException {
+		List<String> partitions = new ArrayList<String>();
+		if (TYPE.equalsIgnoreCase(partitionBy)) {
+			RemoteIssueType[] types = JiraClient.await(client.getIssueTypes());
+			if (types == null || types.length == 0) {
+				return partitions;
+			}
+			List<String> ids = new ArrayList<String>();
+			for (RemoteIssueType type : types) {
+				partitions.add("issuetype = " + type.getId());
+				ids.add(type.getId());
+			}
+			partitions.add("issuetype not in (" + join(ids) + ")");
+		} else if (COMPONENT.equalsIgnoreCase(partitionBy)) {
+			RemoteComponent[] components = JiraClient.await(client
+					.getComponents(projectKey));
+			if (components == null || components.length == 0) {
+				return partitions;
+			}
+			List<String> ids = new ArrayList<String>();
+			for (RemoteComponent component : components) {
+				partitions.add("component = " + component.getId());
+				ids.add(component.getId());
+			}
+			partitions.add("(component not in (" + join(ids)
+					+ ") OR component is EMPTY)");
+		} else if (CREATED.equalsIgnoreCase(partitionBy)) {
+			RemoteIssue[] oldest = JiraClient.await(client
+					.getIssuesFromJqlSearch(jql + " ORDER BY created ASC", 1));
+			if (oldest.length == 0 || oldest[0].getCreated() == null
+					|| dateRanges < 2) {
+				partitions.add("created is not EMPTY");
+				return partitions;
+			}
+			long from = oldest[0].getCreated().getTimeInMillis();
+			long step = Math.max(60000L,
+					(System.currentTimeMillis() - from) / dateRanges);
+			SimpleDateFormat format = new SimpleDateFormat(
+					"yyyy/MM/dd HH:mm", Locale.ENGLISH);
+			String previous = null;
+			for (int i = 1; i < dateRanges; i++) {
+				String bound = "\"" + format.format(new Date(from + i * step))
+						+ "\"";
+				if (bound.equals(previous)) {
+					continue;
+				}
+				partitions.add((previous == null) ? "created < " + bound
+						: "created >= " + previous + " AND created < " + bound);
+				previous = bound;
+			}
+			partitions.add("created >= " + previous);
+		} else {
+			throw new IllegalArgumentException("Unknown partitioning: "
+					+ partitionBy + ". Use " + TYPE + ", " + COMPONENT + " or "
+					+ CREATED);
+		}
+		return partitions;
+	}
+
+	/**
+	 * Runs the partitions of a search
+	 *
+	 * @param client
+	 * @param jiraService
+	 *            used by paged partitions
+	 * @param loginToken
+	 * @param jql
+	 * @param partitions
+	 *            conditions added to the search, none for a single search
+	 * @param maxIssues
+	 *            issues per partition when not paged
+	 * @param pageSize
+	 *            issues per page, 0 for a single search per partition
+	 * @param log
+	 * @return the issues found, sorted by key
+	 * @throws RemoteException
+	 */
+	static RemoteIssue[] search(JiraClient client,
+			final JiraSoapService jiraService, final String loginToken,
+			String jql, List<String> partitions, final int maxIssues,
+			final int pageSize, final Log log) throws RemoteException {
+		final String unordered = IssueSync.unordered(jql);
+		if (pageSize > 0) {
+			IssuePager.checkProject(unordered);
+		}
+		if (partitions.isEmpty()) {
+			partitions = Collections.singletonList(null);
+		}
+		long start = System.currentTimeMillis();
+		List<Future<Partition>> futures = new ArrayList<Future<Partition>>();
+		for (final String condition : partitions) {
+			futures.add(client.submit(new Callable<Partition>() {
+				public Partition call() throws Exception {
+					return searchPartition(jiraService, loginToken, unordered,
+							condition, maxIssues, pageSize, log);
+				}
+			}));
+		}
+		Map<String, RemoteIssue> issues = new TreeMap<String, RemoteIssue>(
+				KEY_ORDER);
+		long sequential = 0;
+		try {
+			for (Future<Partition> future : futures) {
+				Partition partition = JiraClient.await(future);
+				for (RemoteIssue issue : partition.issues) {
+					issues.put(issue.getKey(), issue);
+				}
+				sequential += partition.millis;
+				if (log.isInfoEnabled()) {
+					log.info("Partition " + partition + ": "
+							+ partition.issues.size() + " issues in "
+							+ partition.millis + " ms");
+				}
+				if (pageSize <= 0 && partition.issues.size() >= maxIssues) {
+					log.warn("Partition " + partition
+							+ " reached maxIssues, issues may be missing");
+				}
+			}
+		} finally {
+			for (Future<Partition> future : futures) {
+				future.cancel(true);
+			}
+		}
+		long elapsed = Math.max(1, System.currentTimeMillis() - start);
+		if (log.isInfoEnabled()) {
+			log.info(partitions.size() + " partitions, " + issues.size()
+					+ " issues in " + elapsed + " ms, " + sequential
+					+ " ms one after another, speed-up "
+					+ String.format(Locale.ENGLISH, "%.1f", (double) sequential
+							/ elapsed) + "x");
+		}
+		return issues.values().toArray(new RemoteIssue[issues.size()]);
+	}
+
+	private static Partition searchPartition(JiraSoapService jiraService,
+			String loginToken, String jql, String condition, int maxIssues,
+			int pageSize, Log log) throws RemoteException, IOException {
+		long start = System.currentTimeMillis();
+		final List<RemoteIssue> found = new ArrayList<RemoteIssue>();
+		if (pageSize > 0) {
+			IssuePager.search(jiraService, loginToken, jql, condition, pageSize,
+					new IssuePager.PageHandler() {
+						public void handle(RemoteIssue[] page) {
+							for (RemoteIssue issue : page) {
+								found.add(issue);
+							}
+						}
+					}, log);
+		} else {
+			RemoteIssue[] issues = jiraService.getIssuesFromJqlSearch(
+					loginToken, (condition == null) ? jql : IssueSync.restrict(
+							jql, condition), maxIssues);
+			if (issues != null) {
+				for (RemoteIssue issue : issues) {
+					found.add(issue);
+				}
+			}
+		}
+		return new Partition(condition, found, System.currentTimeMillis()
+				- start);
+	}
+
+	private static String join(List<String> values) {
+		StringBuilder sb = new StringBuilder();
+		for (String value : values) {
+			if (sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append(value);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The issues found by a partition, and the time taken
+	 */
+	private static final class Partition {
+
+		/**
+		 * <code>null</code> for the whole search
+		 */
+		final String condition;
+		final List<RemoteIssue> issues;
+		final long millis;
+
+		Partition(String condition, List<RemoteIssue> issues, long millis) {
+			this.condition = condition;
+			this.issues = issues;
+			this.millis = millis;
+		}
+
+		@Override
+		public String toString() {
+			return (condition == null) ? "(whole search)" : condition;
+		}
+	}
+}
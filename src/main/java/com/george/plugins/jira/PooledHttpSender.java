@@ -0,0 +1,126 @@
+package com.george.plugins.jira;
+
+import java.io.InputStream;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Message;
+import org.apache.axis.MessageContext;
+import org.apache.axis.SOAPPart;
+import org.apache.axis.transport.http.CommonsHTTPSender;
+import org.apache.axis.transport.http.HTTPConstants;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
+import org.apache.commons.httpclient.params.HttpConnectionManagerParams;
+
+/**
+ * Axis transport that keeps JIRA connections alive in a bounded pool.
+ *
+ * Connections are handed back to the pool once a response is read, so
+ * consecutive calls skip the TCP connect and, for https, the TLS handshake.
+ * Connections that must be reopened resume their TLS session from the JSSE
+ * session cache of the default SSL context.
+ *
+ * When compression is enabled, responses are requested gzipped and inflated
+ * as they are parsed, and requests above a size threshold are sent gzipped.
+ *
+ */
+class PooledHttpSender extends CommonsHTTPSender {
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean acceptGzip;
+	private final int gzipRequestThreshold;
+
+	/**
+	 * @param maxConnectionsPerHost
+	 * @param maxTotalConnections
+	 * @param acceptGzip
+	 *            whether to ask JIRA for gzipped responses
+	 * @param gzipRequestThreshold
+	 *            size in bytes above which requests are gzipped, 0 to never
+	 *            compress requests
+	 */
+	PooledHttpSender(int maxConnectionsPerHost, int maxTotalConnections,
+			boolean acceptGzip, int gzipRequestThreshold) {
+		HttpConnectionManagerParams params = getConnectionManager()
+				.getParams();
+		params.setDefaultMaxConnectionsPerHost(maxConnectionsPerHost);
+		params.setMaxTotalConnections(maxTotalConnections);
+		params.setStaleCheckingEnabled(true);
+		this.acceptGzip = acceptGzip;
+		this.gzipRequestThreshold = gzipRequestThreshold;
+	}
+
+	@Override
+	public void invoke(MessageContext msgContext) throws AxisFault {
+		if (acceptGzip) {
+			msgContext.setProperty(HTTPConstants.MC_ACCEPT_GZIP, Boolean.TRUE);
+		}
+		if (gzipRequestThreshold > 0
+				&& msgContext.getRequestMessage().getContentLength() > gzipRequestThreshold) {
+			msgContext.setProperty(HTTPConstants.MC_GZIP_REQUEST, Boolean.TRUE);
+			CompressionStatistics statistics = CompressionStatistics.current();
+			if (statistics != null) {
+				statistics.countCompressedRequest();
+			}
+		}
+		int remaining = ResilienceDecorator.remainingMillis();
+		if (remaining > 0
+				&& (msgContext.getTimeout() <= 0 || msgContext.getTimeout() > remaining)) {
+			// Socket and connection timeouts of this request
+			msgContext.setTimeout(remaining);
+		}
+		super.invoke(msgContext);
+		CompressionStatistics statistics = CompressionStatistics.current();
+		if (acceptGzip && statistics != null) {
+			countResponse(msgContext.getResponseMessage(), statistics);
+		}
+	}
+
+	private static void countResponse(Message response,
+			CompressionStatistics statistics) {
+		if (response == null) {
+			return;
+		}
+		SOAPPart part = (SOAPPart) response.getSOAPPart();
+		if (part.getCurrentForm() != SOAPPart.FORM_INPUTSTREAM) {
+			return;
+		}
+		String[] encoding = response.getMimeHeaders().getHeader(
+				HTTPConstants.HEADER_CONTENT_ENCODING);
+		boolean compressed = encoding != null
+				&& HTTPConstants.COMPRESSION_GZIP.equalsIgnoreCase(encoding[0]);
+		String[] length = response.getMimeHeaders().getHeader(
+				HTTPConstants.HEADER_CONTENT_LENGTH);
+		long contentLength = -1;
+		if (length != null) {
+			try {
+				contentLength = Long.parseLong(length[0].trim());
+			} catch (NumberFormatException e) {
+				// Unknown size on the wire
+			}
+		}
+		part.setCurrentMessage(statistics.countResponse(
+				(InputStream) part.getCurrentMessage(), compressed,
+				contentLength), SOAPPart.FORM_INPUTSTREAM);
+	}
+
+	MultiThreadedHttpConnectionManager getConnectionManager() {
+		return (MultiThreadedHttpConnectionManager) connectionManager;
+	}
+
+	/**
+	 * Closes the pooled connections unused for the given time
+	 *
+	 * @param idleMillis
+	 */
+	void closeIdleConnections(long idleMillis) {
+		getConnectionManager().closeIdleConnections(idleMillis);
+	}
+
+	/**
+	 * Closes every pooled connection
+	 */
+	void shutdown() {
+		getConnectionManager().shutdown();
+	}
+}
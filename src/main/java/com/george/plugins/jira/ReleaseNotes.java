@@ -0,0 +1,99 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * Release notes written to several formats in one pass.
+ *
+ * Issues are handed over as they are read, and the line of each one is
+ * rendered once by the {@link IssueTemplate}, then given to every
+ * {@link ReleaseNotesFormat}, so an extra format costs its escaping and
+ * writing only. Files replace their targets once all of them are written
+ * and forced to disk.
+ *
+ */
+final class ReleaseNotes {
+
+	private final List<ReleaseNotesFormat> formats;
+	private final IssueTemplate template;
+	private final StringBuilder line = new StringBuilder();
+	private int count;
+
+	/**
+	 * @param formats
+	 *            the open files
+	 * @param template
+	 */
+	ReleaseNotes(List<ReleaseNotesFormat> formats, IssueTemplate template) {
+		this.formats = formats;
+		this.template = template;
+	}
+
+	void begin(String version, String beforeText) throws IOException {
+		for (ReleaseNotesFormat format : formats) {
+			format.begin(version, beforeText);
+		}
+	}
+
+	/**
+	 * Writes issues to every format
+	 *
+	 * @param issues
+	 * @param constants
+	 *            names of the issue constants, <code>null</code> if the issue
+	 *            template does not print them
+	 * @throws IOException
+	 */
+	void add(RemoteIssue[] issues, IssueConstants constants)
+			throws IOException {
+		for (RemoteIssue issue : issues) {
+			line.setLength(0);
+			template.render(issue, constants, line);
+			for (ReleaseNotesFormat format : formats) {
+				format.issue(issue, line);
+			}
+		}
+		count += issues.length;
+	}
+
+	void end(String afterText) throws IOException {
+		for (ReleaseNotesFormat format : formats) {
+			format.end(afterText);
+		}
+	}
+
+	/**
+	 * Returns the number of issues written
+	 *
+	 * @return
+	 */
+	int size() {
+		return count;
+	}
+
+	/**
+	 * Replaces the targets with the notes, once every file is written
+	 *
+	 * @throws IOException
+	 */
+	void commit() throws IOException {
+		for (ReleaseNotesFormat format : formats) {
+			format.getWriter().flush();
+		}
+		for (ReleaseNotesFormat format : formats) {
+			format.getWriter().replace();
+		}
+	}
+
+	/**
+	 * Discards the notes not committed yet
+	 */
+	void abort() {
+		for (ReleaseNotesFormat format : formats) {
+			format.getWriter().abort();
+		}
+	}
+}
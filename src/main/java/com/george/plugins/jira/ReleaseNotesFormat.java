@@ -0,0 +1,375 @@
+package com.george.plugins.jira;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * One of the files {@link ReleaseNotes} are written to.
+ *
+ * <ul>
+ * <li><code>text</code>: the issue lines as they are, with the before and
+ * after texts</li>
+ * <li><code>markdown</code>: a bullet list of the issue lines</li>
+ * <li><code>html</code>: a page with a list of the issue lines</li>
+ * <li><code>json</code>: the version, texts and issues, each one with its
+ * key, summary and line, written in ASCII with escapes and always encoded
+ * in UTF-8, as JSON readers expect, whatever the encoding of the others</li>
+ * </ul>
+ *
+ * Each format escapes the line rendered once for all the formats, in a
+ * buffer of its own reused for every issue.
+ *
+ */
+abstract class ReleaseNotesFormat {
+
+	static final String TEXT = "text";
+	static final String MARKDOWN = "markdown";
+	static final String HTML = "html";
+	static final String JSON = "json";
+
+	protected final ReleaseNotesWriter writer;
+	protected final StringBuilder out = new StringBuilder();
+
+	protected ReleaseNotesFormat(ReleaseNotesWriter writer) {
+		this.writer = writer;
+	}
+
+	/**
+	 * Starts a file in the given format
+	 *
+	 * @param name
+	 *            <code>text</code>, <code>markdown</code>, <code>html</code>
+	 *            or <code>json</code>
+	 * @param target
+	 * @param charset
+	 *            encoding of the formats but <code>json</code>
+	 * @param lineSeparator
+	 * @param append
+	 *            whether text notes follow the current content of the target
+	 * @return
+	 * @throws IOException
+	 */
+	static ReleaseNotesFormat open(String name, File target, Charset charset,
+			String lineSeparator, boolean append) throws IOException {
+		String format = checkName(name);
+		if (TEXT.equals(format)) {
+			return new Text(new ReleaseNotesWriter(target, charset,
+					lineSeparator, append));
+		}
+		ReleaseNotesWriter writer = new ReleaseNotesWriter(target,
+				JSON.equals(format) ? Charset.forName("UTF-8") : charset,
+				lineSeparator, false);
+		if (MARKDOWN.equals(format)) {
+			return new Markdown(writer);
+		}
+		if (HTML.equals(format)) {
+			return new Html(writer, charset);
+		}
+		return new Json(writer);
+	}
+
+	/**
+	 * Returns the formats of a comma separated list, each one once, in the
+	 * order first listed
+	 *
+	 * @param names
+	 * @return
+	 * @throws IllegalArgumentException
+	 *             if a format is unknown
+	 */
+	static List<String> namesOf(String names) {
+		Set<String> formats = new LinkedHashSet<String>();
+		for (String name : names.split(",")) {
+			formats.add(checkName(name));
+		}
+		return new ArrayList<String>(formats);
+	}
+
+	/**
+	 * Returns the file of a format, the text target with the extension of
+	 * the format
+	 *
+	 * @param name
+	 * @param textTarget
+	 * @return
+	 */
+	static File targetOf(String name, File textTarget) {
+		String format = checkName(name);
+		if (TEXT.equals(format)) {
+			return textTarget;
+		}
+		String extension = MARKDOWN.equals(format) ? ".md" : "." + format;
+		String fileName = textTarget.getName();
+		int dot = fileName.lastIndexOf('.');
+		if (dot > 0) {
+			fileName = fileName.substring(0, dot);
+		}
+		return new File(textTarget.getParentFile(), fileName + extension);
+	}
+
+	private static String checkName(String name) {
+		String format = name.trim().toLowerCase(Locale.ENGLISH);
+		if (TEXT.equals(format) || MARKDOWN.equals(format)
+				|| HTML.equals(format) || JSON.equals(format)) {
+			return format;
+		}
+		throw new IllegalArgumentException("Unknown release notes format: "
+				+ name + ". Use " + TEXT + ", " + MARKDOWN + ", " + HTML
+				+ " or " + JSON);
+	}
+
+	ReleaseNotesWriter getWriter() {
+		return writer;
+	}
+
+	/**
+	 * Writes what comes before the issues
+	 *
+	 * @param version
+	 *            the version released
+	 * @param beforeText
+	 *            <code>null</code> if none
+	 * @throws IOException
+	 */
+	abstract void begin(String version, String beforeText) throws IOException;
+
+	/**
+	 * Writes an issue
+	 *
+	 * @param issue
+	 * @param line
+	 *            rendered by the issue template
+	 * @throws IOException
+	 */
+	abstract void issue(RemoteIssue issue, CharSequence line)
+			throws IOException;
+
+	/**
+	 * Writes what comes after the issues
+	 *
+	 * @param afterText
+	 *            <code>null</code> if none
+	 * @throws IOException
+	 */
+	abstract void end(String afterText) throws IOException;
+
+	private static final class Text extends ReleaseNotesFormat {
+
+		Text(ReleaseNotesWriter writer) {
+			super(writer);
+		}
+
+		@Override
+		void begin(String version, String beforeText) throws IOException {
+			if (beforeText != null) {
+				writer.println(beforeText);
+			}
+		}
+
+		@Override
+		void issue(RemoteIssue issue, CharSequence line) throws IOException {
+			writer.println(line);
+		}
+
+		@Override
+		void end(String afterText) throws IOException {
+			if (afterText != null) {
+				writer.println(afterText);
+			}
+		}
+	}
+
+	private static final class Markdown extends ReleaseNotesFormat {
+
+		Markdown(ReleaseNotesWriter writer) {
+			super(writer);
+		}
+
+		@Override
+		void begin(String version, String beforeText) throws IOException {
+			if (beforeText != null) {
+				writer.println(beforeText);
+				writer.println("");
+			}
+		}
+
+		@Override
+		void issue(RemoteIssue issue, CharSequence line) throws IOException {
+			out.setLength(0);
+			out.append("- ");
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if ("\\`*_[]<>#|".indexOf(c) >= 0) {
+					out.append('\\');
+				}
+				out.append(c);
+			}
+			writer.println(out);
+		}
+
+		@Override
+		void end(String afterText) throws IOException {
+			if (afterText != null) {
+				writer.println("");
+				writer.println(afterText);
+			}
+		}
+	}
+
+	private static final class Html extends ReleaseNotesFormat {
+
+		private final Charset charset;
+
+		Html(ReleaseNotesWriter writer, Charset charset) {
+			super(writer);
+			this.charset = charset;
+		}
+
+		@Override
+		void begin(String version, String beforeText) throws IOException {
+			writer.println("<!DOCTYPE html>");
+			writer.println("<html>");
+			writer.println("<head>");
+			writer.println("<meta charset=\"" + charset.name() + "\">");
+			writer.println(element("title", version));
+			writer.println("</head>");
+			writer.println("<body>");
+			if (beforeText != null) {
+				writer.println(element("p", beforeText));
+			}
+			writer.println("<ul>");
+		}
+
+		@Override
+		void issue(RemoteIssue issue, CharSequence line) throws IOException {
+			writer.println(element("li", line));
+		}
+
+		@Override
+		void end(String afterText) throws IOException {
+			writer.println("</ul>");
+			if (afterText != null) {
+				writer.println(element("p", afterText));
+			}
+			writer.println("</body>");
+			writer.println("</html>");
+		}
+
+		private StringBuilder element(String name, CharSequence text) {
+			out.setLength(0);
+			out.append('<').append(name).append('>');
+			for (int i = 0; (text != null) && i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == '<') {
+					out.append("&lt;");
+				} else if (c == '>') {
+					out.append("&gt;");
+				} else if (c == '&') {
+					out.append("&amp;");
+				} else if (c == '"') {
+					out.append("&quot;");
+				} else {
+					out.append(c);
+				}
+			}
+			return out.append("</").append(name).append('>');
+		}
+	}
+
+	private static final class Json extends ReleaseNotesFormat {
+
+		private boolean first = true;
+
+		Json(ReleaseNotesWriter writer) {
+			super(writer);
+		}
+
+		@Override
+		void begin(String version, String beforeText) throws IOException {
+			writer.println("{");
+			out.setLength(0);
+			out.append("  \"version\": ");
+			quote(version);
+			writer.println(out.append(','));
+			if (beforeText != null) {
+				out.setLength(0);
+				out.append("  \"before\": ");
+				quote(beforeText);
+				writer.println(out.append(','));
+			}
+			writer.print("  \"issues\": [");
+		}
+
+		@Override
+		void issue(RemoteIssue issue, CharSequence line) throws IOException {
+			out.setLength(0);
+			out.append(first ? "" : ",");
+			first = false;
+			writer.println(out);
+			out.setLength(0);
+			out.append("    {\"key\": ");
+			quote(issue.getKey());
+			out.append(", \"summary\": ");
+			quote(issue.getSummary());
+			out.append(", \"line\": ");
+			quote(line);
+			writer.print(out.append('}'));
+		}
+
+		@Override
+		void end(String afterText) throws IOException {
+			if (!first) {
+				writer.println("");
+				writer.print("  ");
+			}
+			if (afterText == null) {
+				writer.println("]");
+			} else {
+				writer.println("],");
+				out.setLength(0);
+				out.append("  \"after\": ");
+				quote(afterText);
+				writer.println(out);
+			}
+			writer.println("}");
+		}
+
+		private void quote(CharSequence text) {
+			if (text == null) {
+				out.append("null");
+				return;
+			}
+			out.append('"');
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == '"' || c == '\\') {
+					out.append('\\').append(c);
+				} else if (c == '\n') {
+					out.append("\\n");
+				} else if (c == '\r') {
+					out.append("\\r");
+				} else if (c == '\t') {
+					out.append("\\t");
+				} else if (c < 0x20 || c > 0x7e) {
+					String hex = Integer.toHexString(c);
+					out.append("\\u");
+					for (int pad = hex.length(); pad < 4; pad++) {
+						out.append('0');
+					}
+					out.append(hex);
+				} else {
+					out.append(c);
+				}
+			}
+			out.append('"');
+		}
+	}
+}
@@ -0,0 +1,254 @@
+package com.george.plugins.jira;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Writes release notes line by line as issues arrive.
+ *
+ * Lines are encoded by one {@link CharsetEncoder} into a direct buffer,
+ * written to a {@link FileChannel} whenever full. Everything goes to a
+ * temporary file next to the target, renamed over it by {@link #commit}, so
+ * readers never see half written notes and a failed build leaves the
+ * previous ones in place. A commit that fails deletes the temporary file.
+ * Characters the charset cannot encode are replaced, as a
+ * <code>Writer</code> would.
+ *
+ */
+class ReleaseNotesWriter {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final File target;
+	private final File tmp;
+	private final String lineSeparator;
+	private final CharsetEncoder encoder;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	private final FileOutputStream stream;
+	private final FileChannel channel;
+	private boolean closed;
+	private boolean committed;
+
+	/**
+	 * @param target
+	 * @param charset
+	 * @param lineSeparator
+	 * @param append
+	 *            whether the notes follow the current content of the target
+	 * @throws IOException
+	 *             if the temporary file cannot be written
+	 */
+	ReleaseNotesWriter(File target, Charset charset, String lineSeparator,
+			boolean append) throws IOException {
+		this.target = target.getAbsoluteFile();
+		this.lineSeparator = lineSeparator;
+		this.encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		File dir = this.target.getParentFile();
+		if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+			throw new IOException("Cannot create " + dir);
+		}
+		tmp = new File(dir, this.target.getName() + ".tmp");
+		stream = new FileOutputStream(tmp);
+		channel = stream.getChannel();
+		if (append && this.target.isFile()) {
+			try {
+				copyTarget();
+			} catch (IOException e) {
+				abort();
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns the line separator named by a mojo parameter
+	 *
+	 * @param name
+	 *            <code>lf</code>, <code>crlf</code>, or <code>system</code>
+	 *            or <code>null</code> for the one of the platform
+	 * @return
+	 */
+	static String lineSeparatorOf(String name) {
+		if (name == null || "system".equalsIgnoreCase(name)) {
+			return System.getProperty("line.separator");
+		}
+		if ("lf".equalsIgnoreCase(name)) {
+			return "\n";
+		}
+		if ("crlf".equalsIgnoreCase(name)) {
+			return "\r\n";
+		}
+		throw new IllegalArgumentException("Unknown line separator: " + name
+				+ ". Use lf, crlf or system");
+	}
+
+	/**
+	 * Writes text, without line separator
+	 *
+	 * @param text
+	 * @throws IOException
+	 */
+	void print(CharSequence text) throws IOException {
+		encode(CharBuffer.wrap(text));
+	}
+
+	/**
+	 * Writes a line and the line separator
+	 *
+	 * @param line
+	 * @throws IOException
+	 */
+	void println(CharSequence line) throws IOException {
+		encode(CharBuffer.wrap(line));
+		encode(CharBuffer.wrap(lineSeparator));
+	}
+
+	/**
+	 * Writes what is buffered and replaces the target with the notes
+	 *
+	 * @throws IOException
+	 */
+	void commit() throws IOException {
+		flush();
+		replace();
+	}
+
+	/**
+	 * Writes what is buffered and forces it to disk, leaving only the
+	 * target to replace. Discards the notes if that fails.
+	 *
+	 * @throws IOException
+	 */
+	void flush() throws IOException {
+		if (closed) {
+			return;
+		}
+		boolean flushed = false;
+		try {
+			encoder.encode(CharBuffer.allocate(0), buffer, true);
+			while (encoder.flush(buffer) == CoderResult.OVERFLOW) {
+				drain();
+			}
+			drain();
+			channel.force(false);
+			close();
+			flushed = true;
+		} finally {
+			if (!flushed) {
+				abort();
+			}
+		}
+	}
+
+	/**
+	 * Replaces the target with the flushed notes. Discards them if that
+	 * fails, leaving the target as it was.
+	 *
+	 * @throws IOException
+	 */
+	void replace() throws IOException {
+		flush();
+		if (!tmp.isFile()) {
+			abort();
+			throw new IOException("Cannot replace " + target + ", " + tmp
+					+ " is missing");
+		}
+		if (!tmp.renameTo(target) && !replaceAside()) {
+			abort();
+			throw new IOException("Cannot replace " + target);
+		}
+		committed = true;
+	}
+
+	/**
+	 * Renames the target aside before renaming the notes over it, for
+	 * platforms that cannot rename over an existing file, and puts it back
+	 * if the notes still cannot take its place
+	 *
+	 * @return if the notes replaced the target
+	 */
+	private boolean replaceAside() {
+		File previous = new File(tmp.getParentFile(), target.getName()
+				+ ".previous");
+		previous.delete();
+		if (!target.isFile() || !target.renameTo(previous)) {
+			return false;
+		}
+		if (tmp.renameTo(target)) {
+			previous.delete();
+			return true;
+		}
+		previous.renameTo(target);
+		return false;
+	}
+
+	/**
+	 * Discards the notes, leaving the target as it was. Does nothing once
+	 * committed.
+	 */
+	void abort() {
+		if (committed) {
+			return;
+		}
+		if (!closed) {
+			try {
+				close();
+			} catch (IOException e) {
+				// Deleted anyway
+			}
+		}
+		tmp.delete();
+	}
+
+	private void copyTarget() throws IOException {
+		FileChannel previous = new FileInputStream(target).getChannel();
+		try {
+			long size = previous.size();
+			long position = 0;
+			while (position < size) {
+				position += previous.transferTo(position, size - position,
+						channel);
+			}
+		} finally {
+			previous.close();
+		}
+	}
+
+	private void encode(CharBuffer chars) throws IOException {
+		while (true) {
+			CoderResult result = encoder.encode(chars, buffer, false);
+			if (result.isOverflow()) {
+				drain();
+			} else {
+				// Underflow: all read, but for a lone high surrogate dropped
+				return;
+			}
+		}
+	}
+
+	private void drain() throws IOException {
+		// Through Buffer, whose methods are the only ones on Java 8 and older
+		((Buffer) buffer).flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		((Buffer) buffer).clear();
+	}
+
+	private void close() throws IOException {
+		closed = true;
+		stream.close();
+	}
+}
@@ -51,6 +51,15 @@ public class ReleaseVersionMojo extends AbstractJiraMojo {
 			throws Exception {
 		Log log = getLog();
 		log.debug("Login Token returned: " + loginToken);
+		NegativeCache missing = getNegativeCache();
+		String missingKey = NegativeCache.versionKey(jiraProjectKey,
+				releaseVersion);
+		if (!autoDiscoverLatestRelease && missing.contains(missingKey)) {
+			log.warn("Version " + releaseVersion
+					+ " is known to be missing in JIRA project "
+					+ jiraProjectKey);
+			return;
+		}
 		RemoteVersion[] versions = jiraService.getVersions(loginToken,
 				jiraProjectKey);
 		String thisReleaseVersion = (autoDiscoverLatestRelease)
@@ -60,19 +69,28 @@ public class ReleaseVersionMojo extends AbstractJiraMojo {
 			log.info("Releasing Version " + this.releaseVersion);
 			markVersionAsReleased(jiraService, loginToken, versions,
 					thisReleaseVersion);
+			if (!autoDiscoverLatestRelease
+					&& !isVersionAlreadyPresent(versions, thisReleaseVersion)) {
+				// Reported once, the other modules of the build skip it
+				log.warn("Version " + thisReleaseVersion
+						+ " does not exist in JIRA project " + jiraProjectKey);
+				missing.add(missingKey);
+			}
 		}
 	}
 
 	/**
-	 * Returns the latest unreleased version
+	 * Returns the latest unreleased version. The given array is left as is,
+	 * as it may be shared with other executions.
 	 * 
 	 * @param versions
 	 * @return
 	 */
 	String calculateLatestReleaseVersion(RemoteVersion[] versions) {
-		Arrays.sort(versions, remoteVersionComparator);
+		RemoteVersion[] sorted = versions.clone();
+		Arrays.sort(sorted, remoteVersionComparator);
 
-		for (RemoteVersion remoteVersion : versions) {
+		for (RemoteVersion remoteVersion : sorted) {
 			if (!remoteVersion.isReleased())
 				return remoteVersion.getName();
 		}
@@ -103,7 +121,8 @@ public class ReleaseVersionMojo extends AbstractJiraMojo {
 	}
 
 	/**
-	 * Release Version
+	 * Release Version. A released copy is sent, the given versions are left as
+	 * they are.
 	 * 
 	 * @param log
 	 * @param jiraService
@@ -124,15 +143,18 @@ public class ReleaseVersionMojo extends AbstractJiraMojo {
 				if (releaseVersion.equalsIgnoreCase(remoteReleasedVersion
 						.getName()) && !remoteReleasedVersion.isReleased()) {
 					// Mark as released
-					remoteReleasedVersion.setReleased(true);
-					remoteReleasedVersion
-							.setReleaseDate(Calendar.getInstance());
+					RemoteVersion released = new RemoteVersion(
+							remoteReleasedVersion.getId(),
+							remoteReleasedVersion.getName(),
+							remoteReleasedVersion.isArchived(),
+							Calendar.getInstance(), true,
+							remoteReleasedVersion.getSequence());
 					jiraService.releaseVersion(loginToken, jiraProjectKey,
-							remoteReleasedVersion);
+							released);
 					getLog().info(
-							"Version " + remoteReleasedVersion.getName()
+							"Version " + released.getName()
 									+ " was released in JIRA.");
-					ret = remoteReleasedVersion;
+					ret = released;
 					break;
 				}
 			}
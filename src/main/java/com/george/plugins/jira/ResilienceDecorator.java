@@ -0,0 +1,259 @@
+package com.george.plugins.jira;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.rmi.RemoteException;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.axis.AxisFault;
+import org.apache.axis.Constants;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * Protects a mojo execution from an overloaded or unreachable JIRA.
+ *
+ * <ul>
+ * <li>Read operations (<code>get*</code>) failing with a transient error (I/O
+ * error, timeout, HTTP 408, 429 or 5xx) are retried with jittered
+ * exponential backoff.</li>
+ * <li>Every call goes through the {@link CircuitBreaker} of the endpoint, so
+ * once JIRA is considered down the remaining executions fail fast.</li>
+ * <li>All the calls and waits of the execution share one deadline. A call
+ * still running when it passes is abandoned, and the socket timeouts of the
+ * HTTP request are lowered to the time left so that its thread ends
+ * too.</li>
+ * </ul>
+ *
+ * Errors reported by JIRA itself, such as permission or validation errors,
+ * are never retried.
+ *
+ */
+class ResilienceDecorator extends JiraServiceDecorator {
+
+	private static final Random JITTER = new Random();
+
+	/**
+	 * Runs the calls under a deadline, one daemon thread per call in flight
+	 */
+	private static final ExecutorService CALLS = createCallExecutor();
+
+	/**
+	 * Deadline of the call running on the current thread
+	 */
+	private static final ThreadLocal<Long> CALL_DEADLINE = new ThreadLocal<Long>();
+
+	private final CircuitBreaker breaker;
+	private final int maxAttempts;
+	private final long baseDelayMillis;
+	private final long maxDelayMillis;
+	private final long deadline;
+
+	/**
+	 * @param delegate
+	 * @param breaker
+	 * @param maxAttempts
+	 *            attempts per read operation, including the first one
+	 * @param baseDelayMillis
+	 *            backoff before the first retry
+	 * @param maxDelayMillis
+	 *            upper bound of any backoff
+	 * @param timeoutMillis
+	 *            time budget for the whole execution, 0 for none
+	 */
+	ResilienceDecorator(JiraSoapService delegate, CircuitBreaker breaker,
+			int maxAttempts, long baseDelayMillis, long maxDelayMillis,
+			long timeoutMillis) {
+		super(delegate);
+		this.breaker = breaker;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.baseDelayMillis = baseDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+		this.deadline = (timeoutMillis > 0) ? System.currentTimeMillis()
+				+ timeoutMillis : Long.MAX_VALUE;
+	}
+
+	@Override
+	protected Object invokeService(Method method, Object[] args)
+			throws Throwable {
+		int attempts = isIdempotent(method) ? maxAttempts : 1;
+		for (int attempt = 1;; attempt++) {
+			checkDeadline(method);
+			if (!breaker.allowRequest()) {
+				throw new RemoteException("JIRA is unavailable, "
+						+ method.getName()
+						+ " not attempted: too many consecutive failures");
+			}
+			try {
+				Object result = proceedWithin(method, args);
+				breaker.recordSuccess();
+				return result;
+			} catch (Throwable t) {
+				if (!isTransient(t)) {
+					breaker.recordSuccess();
+					throw t;
+				}
+				breaker.recordFailure();
+				if (attempt >= attempts || !backoff(attempt)) {
+					throw t;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the milliseconds left to the call running on the current thread
+	 *
+	 * @return 0 if the call has no deadline, at least 1 otherwise
+	 */
+	static int remainingMillis() {
+		Long callDeadline = CALL_DEADLINE.get();
+		if (callDeadline == null) {
+			return 0;
+		}
+		long remaining = callDeadline.longValue() - System.currentTimeMillis();
+		return (int) Math.max(1, Math.min(remaining, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Calls the delegate, giving up once the deadline passes
+	 *
+	 * @param method
+	 * @param args
+	 * @return
+	 * @throws Throwable
+	 */
+	private Object proceedWithin(final Method method, final Object[] args)
+			throws Throwable {
+		if (deadline == Long.MAX_VALUE) {
+			return proceed(method, args);
+		}
+		Future<Object> call = CALLS.submit(new Callable<Object>() {
+			public Object call() throws Exception {
+				CALL_DEADLINE.set(Long.valueOf(deadline));
+				try {
+					return proceed(method, args);
+				} catch (Exception e) {
+					throw e;
+				} catch (Error e) {
+					throw e;
+				} catch (Throwable t) {
+					throw new UndeclaredThrowableException(t);
+				} finally {
+					CALL_DEADLINE.remove();
+				}
+			}
+		});
+		try {
+			return call.get(Math.max(0, deadline - System.currentTimeMillis()),
+					TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		} catch (TimeoutException e) {
+			call.cancel(true);
+			throw new RemoteException("JIRA time budget of the execution exceeded, "
+					+ method.getName() + " abandoned");
+		} catch (InterruptedException e) {
+			call.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new RemoteException("Interrupted while waiting for JIRA, "
+					+ method.getName() + " abandoned");
+		}
+	}
+
+	private static ExecutorService createCallExecutor() {
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60,
+				TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+				new JiraExecutors.DaemonFactory("jira-call-"));
+	}
+
+	/**
+	 * Returns if the operation can be safely repeated
+	 *
+	 * @param method
+	 * @return
+	 */
+	static boolean isIdempotent(Method method) {
+		return method.getName().startsWith("get");
+	}
+
+	/**
+	 * Returns if the error is worth a retry, i.e. was not reported by JIRA
+	 * itself
+	 *
+	 * @param t
+	 * @return
+	 */
+	static boolean isTransient(Throwable t) {
+		if (t instanceof com.atlassian.jira.rpc.soap.client.RemoteException
+				|| !(t instanceof RemoteException)) {
+			return false;
+		}
+		Throwable cause = ((RemoteException) t).detail;
+		if (cause instanceof IOException) {
+			return true;
+		}
+		if (t instanceof AxisFault) {
+			Element code = ((AxisFault) t)
+					.lookupFaultDetail(Constants.QNAME_FAULTDETAIL_HTTPERRORCODE);
+			if (code != null) {
+				int status = parseStatus(code);
+				return status == 408 || status == 429 || status >= 500;
+			}
+			return false;
+		}
+		return true;
+	}
+
+	private static int parseStatus(Element code) {
+		Node text = code.getFirstChild();
+		if (text != null) {
+			try {
+				return Integer.parseInt(text.getNodeValue().trim());
+			} catch (NumberFormatException e) {
+				// Not an HTTP status
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Waits a random time up to the exponential backoff of the attempt
+	 *
+	 * @param attempt
+	 * @return <code>false</code> if interrupted while waiting
+	 */
+	private boolean backoff(int attempt) {
+		long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(
+				attempt - 1, 20));
+		long delay = (ceiling > 0) ? (long) (JITTER.nextDouble() * ceiling) : 0;
+		delay = Math.min(delay, deadline - System.currentTimeMillis());
+		if (delay > 0) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void checkDeadline(Method method) throws RemoteException {
+		if (System.currentTimeMillis() >= deadline) {
+			throw new RemoteException("JIRA time budget of the execution exceeded, "
+					+ method.getName() + " not attempted");
+		}
+	}
+}
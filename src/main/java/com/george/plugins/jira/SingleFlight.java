@@ -0,0 +1,128 @@
+package com.george.plugins.jira;
+
+import java.rmi.RemoteException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares the result of a JIRA call among the identical calls made while it
+ * is in flight.
+ *
+ * The first caller of a key sends the call, the callers arriving before it
+ * completes wait for its result or error instead of sending their own.
+ * Nothing is kept once the call completes. Like circuit breakers, one
+ * instance is shared by all the executions of the build that use the same
+ * endpoint.
+ *
+ */
+class SingleFlight {
+
+	private static final ConcurrentMap<String, SingleFlight> FLIGHTS = new ConcurrentHashMap<String, SingleFlight>();
+
+	private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<String, Flight>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * A call that can be shared
+	 */
+	interface Call {
+		Object call() throws Throwable;
+	}
+
+	/**
+	 * Returns the instance of the given JIRA endpoint
+	 *
+	 * @param endpoint
+	 * @return
+	 */
+	static SingleFlight forEndpoint(String endpoint) {
+		SingleFlight flights = FLIGHTS.get(endpoint);
+		if (flights == null) {
+			flights = new SingleFlight();
+			SingleFlight existing = FLIGHTS.putIfAbsent(endpoint, flights);
+			if (existing != null) {
+				flights = existing;
+			}
+		}
+		return flights;
+	}
+
+	/**
+	 * Returns the result of the call in flight for the key, making the call
+	 * if there is none
+	 *
+	 * @param key
+	 *            identifies the operation and all its arguments
+	 * @param call
+	 * @return the result, shared with the other callers of the key
+	 * @throws Throwable
+	 *             the error of the call
+	 */
+	Object execute(String key, Call call) throws Throwable {
+		Flight flight = new Flight();
+		Flight existing = inFlight.putIfAbsent(key, flight);
+		if (existing != null) {
+			hits.incrementAndGet();
+			return existing.await();
+		}
+		misses.incrementAndGet();
+		try {
+			flight.result = call.call();
+			return flight.result;
+		} catch (Throwable t) {
+			flight.failure = t;
+			throw t;
+		} finally {
+			inFlight.remove(key, flight);
+			flight.done.countDown();
+		}
+	}
+
+	/**
+	 * Returns the calls answered by a call already in flight
+	 *
+	 * @return
+	 */
+	long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the calls actually sent
+	 *
+	 * @return
+	 */
+	long getMisses() {
+		return misses.get();
+	}
+
+	@Override
+	public String toString() {
+		return getMisses() + " JIRA reads sent, " + getHits()
+				+ " shared with concurrent executions";
+	}
+
+	private static final class Flight {
+
+		final CountDownLatch done = new CountDownLatch(1);
+		Object result;
+		Throwable failure;
+
+		Object await() throws Throwable {
+			try {
+				done.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RemoteException(
+						"Interrupted while waiting for a concurrent JIRA call");
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return result;
+		}
+	}
+}
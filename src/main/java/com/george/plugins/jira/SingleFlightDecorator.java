@@ -0,0 +1,72 @@
+package com.george.plugins.jira;
+
+import java.lang.reflect.Method;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * Sends a single call for identical JIRA reads made at the same time, such
+ * as the <code>getVersions</code> of every module of a parallel build.
+ *
+ * Only read operations (<code>get*</code>) with plain arguments are shared.
+ * The login token is part of the key, so users never see each other's
+ * results. Callers sharing a result each get their own copy of the array,
+ * the beans in it are shared and must not be modified.
+ *
+ */
+class SingleFlightDecorator extends JiraServiceDecorator {
+
+	private final SingleFlight flights;
+
+	SingleFlightDecorator(JiraSoapService delegate, SingleFlight flights) {
+		super(delegate);
+		this.flights = flights;
+	}
+
+	@Override
+	protected Object invokeService(final Method method, final Object[] args)
+			throws Throwable {
+		String key = keyOf(method, args);
+		if (key == null) {
+			return proceed(method, args);
+		}
+		Object result = flights.execute(key, new SingleFlight.Call() {
+			public Object call() throws Throwable {
+				return proceed(method, args);
+			}
+		});
+		if (result instanceof Object[]) {
+			return ((Object[]) result).clone();
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the key of a shareable call
+	 *
+	 * @param method
+	 * @param args
+	 * @return the key, or <code>null</code> if the call must not be shared
+	 */
+	static String keyOf(Method method, Object[] args) {
+		if (!ResilienceDecorator.isIdempotent(method)) {
+			return null;
+		}
+		StringBuilder key = new StringBuilder(method.getName());
+		if (args != null) {
+			for (Object arg : args) {
+				if (arg != null && !(arg instanceof String)
+						&& !(arg instanceof Number)
+						&& !(arg instanceof Boolean)) {
+					return null;
+				}
+				key.append('\n');
+				if (arg != null) {
+					String value = arg.toString();
+					key.append(value.length()).append(':').append(value);
+				}
+			}
+		}
+		return key.toString();
+	}
+}
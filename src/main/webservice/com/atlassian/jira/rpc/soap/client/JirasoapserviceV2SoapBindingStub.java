@@ -12,29 +12,282 @@ public class JirasoapserviceV2SoapBindingStub
 			org.apache.axis.client.Stub
 		implements
 			com.atlassian.jira.rpc.soap.client.JiraSoapService {
-	private java.util.Vector cachedSerClasses = new java.util.Vector();
-	private java.util.Vector cachedSerQNames = new java.util.Vector();
-	private java.util.Vector cachedSerFactories = new java.util.Vector();
-	private java.util.Vector cachedDeserFactories = new java.util.Vector();
-
-	static org.apache.axis.description.OperationDesc[] _operations;
-
-	static {
-		_operations = new org.apache.axis.description.OperationDesc[108];
-		_initOperationDesc1();
-		_initOperationDesc2();
-		_initOperationDesc3();
-		_initOperationDesc4();
-		_initOperationDesc5();
-		_initOperationDesc6();
-		_initOperationDesc7();
-		_initOperationDesc8();
-		_initOperationDesc9();
-		_initOperationDesc10();
-		_initOperationDesc11();
-	}
-
-	private static void _initOperationDesc1() {
+	/**
+	 * Whether the type mappings are registered in the engine of this stub
+	 */
+	private volatile boolean typeMappingsRegistered;
+
+	/**
+	 * Incremented whenever the stub settings copied into calls change, so
+	 * that reusable calls built with older settings are discarded
+	 */
+	private volatile int callSettings;
+
+	/**
+	 * Calls released and ready to be reused, by operation, created lazily.
+	 * They belong to the stub, not to the threads that used them, so they go
+	 * with it.
+	 */
+	private final java.util.concurrent.atomic.AtomicReferenceArray<java.util.concurrent.ConcurrentLinkedQueue<org.apache.axis.client.Call>> idleCalls = new java.util.concurrent.atomic.AtomicReferenceArray<java.util.concurrent.ConcurrentLinkedQueue<org.apache.axis.client.Call>>(
+			_operations.length());
+
+	/**
+	 * Operation and stub settings of each call built by
+	 * {@link #createCall(int)}, forgotten with the call
+	 */
+	private final java.util.Map<org.apache.axis.client.Call, int[]> callStates = java.util.Collections
+			.synchronizedMap(new java.util.WeakHashMap<org.apache.axis.client.Call, int[]>());
+
+	/**
+	 * Operation descriptors, built on first use by {@link #_operation(int)} so
+	 * that loading the stub only pays for the operations actually called.
+	 */
+	private static final java.util.concurrent.atomic.AtomicReferenceArray<org.apache.axis.description.OperationDesc> _operations = new java.util.concurrent.atomic.AtomicReferenceArray<org.apache.axis.description.OperationDesc>(
+			108);
+
+	/**
+	 * Returns the descriptor of an operation, building it if needed
+	 * 
+	 * @param index
+	 * @return
+	 */
+	static org.apache.axis.description.OperationDesc _operation(int index) {
+		org.apache.axis.description.OperationDesc oper = _operations.get(index);
+		if (oper == null) {
+			oper = _createOperationDesc(index);
+			if (!_operations.compareAndSet(index, null, oper)) {
+				oper = _operations.get(index);
+			}
+		}
+		return oper;
+	}
+
+	private static org.apache.axis.description.OperationDesc _createOperationDesc(
+			int index) {
+		switch (index) {
+			case 0 :
+				return _createOperationDesc0();
+			case 1 :
+				return _createOperationDesc1();
+			case 2 :
+				return _createOperationDesc2();
+			case 3 :
+				return _createOperationDesc3();
+			case 4 :
+				return _createOperationDesc4();
+			case 5 :
+				return _createOperationDesc5();
+			case 6 :
+				return _createOperationDesc6();
+			case 7 :
+				return _createOperationDesc7();
+			case 8 :
+				return _createOperationDesc8();
+			case 9 :
+				return _createOperationDesc9();
+			case 10 :
+				return _createOperationDesc10();
+			case 11 :
+				return _createOperationDesc11();
+			case 12 :
+				return _createOperationDesc12();
+			case 13 :
+				return _createOperationDesc13();
+			case 14 :
+				return _createOperationDesc14();
+			case 15 :
+				return _createOperationDesc15();
+			case 16 :
+				return _createOperationDesc16();
+			case 17 :
+				return _createOperationDesc17();
+			case 18 :
+				return _createOperationDesc18();
+			case 19 :
+				return _createOperationDesc19();
+			case 20 :
+				return _createOperationDesc20();
+			case 21 :
+				return _createOperationDesc21();
+			case 22 :
+				return _createOperationDesc22();
+			case 23 :
+				return _createOperationDesc23();
+			case 24 :
+				return _createOperationDesc24();
+			case 25 :
+				return _createOperationDesc25();
+			case 26 :
+				return _createOperationDesc26();
+			case 27 :
+				return _createOperationDesc27();
+			case 28 :
+				return _createOperationDesc28();
+			case 29 :
+				return _createOperationDesc29();
+			case 30 :
+				return _createOperationDesc30();
+			case 31 :
+				return _createOperationDesc31();
+			case 32 :
+				return _createOperationDesc32();
+			case 33 :
+				return _createOperationDesc33();
+			case 34 :
+				return _createOperationDesc34();
+			case 35 :
+				return _createOperationDesc35();
+			case 36 :
+				return _createOperationDesc36();
+			case 37 :
+				return _createOperationDesc37();
+			case 38 :
+				return _createOperationDesc38();
+			case 39 :
+				return _createOperationDesc39();
+			case 40 :
+				return _createOperationDesc40();
+			case 41 :
+				return _createOperationDesc41();
+			case 42 :
+				return _createOperationDesc42();
+			case 43 :
+				return _createOperationDesc43();
+			case 44 :
+				return _createOperationDesc44();
+			case 45 :
+				return _createOperationDesc45();
+			case 46 :
+				return _createOperationDesc46();
+			case 47 :
+				return _createOperationDesc47();
+			case 48 :
+				return _createOperationDesc48();
+			case 49 :
+				return _createOperationDesc49();
+			case 50 :
+				return _createOperationDesc50();
+			case 51 :
+				return _createOperationDesc51();
+			case 52 :
+				return _createOperationDesc52();
+			case 53 :
+				return _createOperationDesc53();
+			case 54 :
+				return _createOperationDesc54();
+			case 55 :
+				return _createOperationDesc55();
+			case 56 :
+				return _createOperationDesc56();
+			case 57 :
+				return _createOperationDesc57();
+			case 58 :
+				return _createOperationDesc58();
+			case 59 :
+				return _createOperationDesc59();
+			case 60 :
+				return _createOperationDesc60();
+			case 61 :
+				return _createOperationDesc61();
+			case 62 :
+				return _createOperationDesc62();
+			case 63 :
+				return _createOperationDesc63();
+			case 64 :
+				return _createOperationDesc64();
+			case 65 :
+				return _createOperationDesc65();
+			case 66 :
+				return _createOperationDesc66();
+			case 67 :
+				return _createOperationDesc67();
+			case 68 :
+				return _createOperationDesc68();
+			case 69 :
+				return _createOperationDesc69();
+			case 70 :
+				return _createOperationDesc70();
+			case 71 :
+				return _createOperationDesc71();
+			case 72 :
+				return _createOperationDesc72();
+			case 73 :
+				return _createOperationDesc73();
+			case 74 :
+				return _createOperationDesc74();
+			case 75 :
+				return _createOperationDesc75();
+			case 76 :
+				return _createOperationDesc76();
+			case 77 :
+				return _createOperationDesc77();
+			case 78 :
+				return _createOperationDesc78();
+			case 79 :
+				return _createOperationDesc79();
+			case 80 :
+				return _createOperationDesc80();
+			case 81 :
+				return _createOperationDesc81();
+			case 82 :
+				return _createOperationDesc82();
+			case 83 :
+				return _createOperationDesc83();
+			case 84 :
+				return _createOperationDesc84();
+			case 85 :
+				return _createOperationDesc85();
+			case 86 :
+				return _createOperationDesc86();
+			case 87 :
+				return _createOperationDesc87();
+			case 88 :
+				return _createOperationDesc88();
+			case 89 :
+				return _createOperationDesc89();
+			case 90 :
+				return _createOperationDesc90();
+			case 91 :
+				return _createOperationDesc91();
+			case 92 :
+				return _createOperationDesc92();
+			case 93 :
+				return _createOperationDesc93();
+			case 94 :
+				return _createOperationDesc94();
+			case 95 :
+				return _createOperationDesc95();
+			case 96 :
+				return _createOperationDesc96();
+			case 97 :
+				return _createOperationDesc97();
+			case 98 :
+				return _createOperationDesc98();
+			case 99 :
+				return _createOperationDesc99();
+			case 100 :
+				return _createOperationDesc100();
+			case 101 :
+				return _createOperationDesc101();
+			case 102 :
+				return _createOperationDesc102();
+			case 103 :
+				return _createOperationDesc103();
+			case 104 :
+				return _createOperationDesc104();
+			case 105 :
+				return _createOperationDesc105();
+			case 106 :
+				return _createOperationDesc106();
+			case 107 :
+				return _createOperationDesc107();
+			default :
+				throw new java.lang.IndexOutOfBoundsException(
+						"No operation " + index);
+		}
+	}
+
+	private static org.apache.axis.description.OperationDesc _createOperationDesc0() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -68,8 +321,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[0] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc1() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getServerInfo");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -86,8 +343,12 @@ public class JirasoapserviceV2SoapBindingStub
 				"getServerInfoReturn"));
 		oper.setStyle(org.apache.axis.constants.Style.RPC);
 		oper.setUse(org.apache.axis.constants.Use.ENCODED);
-		_operations[1] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc2() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getGroup");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -142,8 +403,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[2] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc3() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("login");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -182,8 +447,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[3] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc4() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getUser");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -222,8 +491,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[4] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc5() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssue");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -270,8 +543,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[5] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc6() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getVersions");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -320,8 +597,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[6] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc7() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getComponents");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -370,8 +651,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[7] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc8() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("createGroup");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -436,8 +721,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[8] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc9() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("createUser");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -514,11 +803,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[9] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc2() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc10() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -578,8 +866,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[10] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc11() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateIssue");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -620,8 +912,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[11] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc12() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deleteIssue");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -665,8 +961,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[12] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc13() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getAvailableActions");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -699,8 +999,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[13] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc14() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getSubTaskIssueTypes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -734,8 +1038,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[14] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc15() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getConfiguration");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -777,8 +1085,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[15] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc16() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("createProject");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -889,8 +1201,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[16] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc17() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateProject");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -948,8 +1264,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[17] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc18() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectByKey");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -997,8 +1317,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[18] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc19() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("removeAllRoleActorsByProject");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1028,11 +1352,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[19] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc3() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc20() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -1068,8 +1391,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[20] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc21() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getResolutions");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1103,8 +1430,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[21] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc22() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssueTypes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1138,8 +1469,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[22] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc23() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getStatuses");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1173,8 +1508,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[23] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc24() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssueTypesForProject");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1215,8 +1554,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[24] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc25() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectRoles");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1242,8 +1585,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[25] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc26() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1275,8 +1622,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[26] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc27() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectRoleActors");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1320,8 +1671,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[27] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc28() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getDefaultRoleActors");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1355,8 +1710,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[28] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc29() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("removeAllRoleActorsByNameAndType");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1391,11 +1750,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[29] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc4() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc30() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -1434,8 +1792,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[30] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc31() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1465,8 +1827,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[31] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc32() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("createProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1500,8 +1866,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[32] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc33() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("isProjectRoleNameUnique");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1533,8 +1903,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[33] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc34() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addActorsToProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1588,8 +1962,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[34] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc35() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("removeActorsFromProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1643,8 +2021,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[35] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc36() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addDefaultActorsToProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1689,8 +2071,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[36] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc37() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("removeDefaultActorsFromProjectRole");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1735,8 +2121,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[37] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc38() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getAssociatedNotificationSchemes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1771,8 +2161,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[38] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc39() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getAssociatedPermissionSchemes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1807,11 +2201,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[39] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc5() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc40() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -1857,8 +2250,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[40] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc41() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectById");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1906,8 +2303,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[41] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc42() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getCustomFields");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1933,8 +2334,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[42] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc43() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getComments");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -1983,8 +2388,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[43] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc44() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getFavouriteFilters");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2026,8 +2435,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[44] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc45() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("releaseVersion");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2064,8 +2477,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[45] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc46() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("archiveVersion");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2107,8 +2524,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[46] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc47() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getFieldsForEdit");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2141,8 +2562,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[47] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc48() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getSubTaskIssueTypesForProject");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2183,8 +2608,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteAuthenticationException"), true));
-		_operations[48] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc49() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addUserToGroup");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2247,11 +2676,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[49] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc6() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc50() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -2316,8 +2744,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[50] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc51() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getSecurityLevel");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2358,8 +2790,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[51] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc52() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("logout");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2375,8 +2811,12 @@ public class JirasoapserviceV2SoapBindingStub
 		oper.setReturnQName(new javax.xml.namespace.QName("", "logoutReturn"));
 		oper.setStyle(org.apache.axis.constants.Style.RPC);
 		oper.setUse(org.apache.axis.constants.Use.ENCODED);
-		_operations[52] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc53() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addComment");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2429,8 +2869,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[53] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc54() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectWithSchemesById");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2462,8 +2906,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[54] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc55() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getSecurityLevels");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2504,8 +2952,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[55] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc56() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectAvatars");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2553,8 +3005,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[56] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc57() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("setProjectAvatar");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2597,8 +3053,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[57] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc58() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectAvatar");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2638,8 +3098,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[58] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc59() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deleteProjectAvatar");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2667,11 +3131,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[59] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc7() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc60() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -2715,8 +3178,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[60] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc61() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getPermissionSchemes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2758,8 +3225,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[61] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc62() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getAllPermissions");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2801,8 +3272,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[62] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc63() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("createPermissionScheme");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2866,8 +3341,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[63] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc64() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addPermissionTo");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -2944,8 +3423,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[64] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc65() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deletePermissionFrom");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3022,8 +3505,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[65] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc66() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deletePermissionScheme");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3075,8 +3562,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[66] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc67() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("createIssueWithSecurityLevel");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3141,8 +3632,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[67] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc68() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addAttachmentsToIssue");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3214,8 +3709,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[68] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc69() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getAttachmentsFromIssue");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3272,11 +3771,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[69] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc8() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc70() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -3312,8 +3810,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[70] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc71() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("editComment");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3347,8 +3849,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[71] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc72() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getFieldsForAction");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3388,8 +3894,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[72] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc73() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("progressWorkflowAction");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3437,8 +3947,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[73] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc74() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssueById");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3486,8 +4000,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[74] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc75() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addWorklogWithNewRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3551,8 +4069,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[75] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc76() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addWorklogAndAutoAdjustRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3609,8 +4131,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[76] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc77() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addWorklogAndRetainRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3667,8 +4193,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[77] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc78() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deleteWorklogWithNewRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3719,8 +4249,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[78] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc79() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deleteWorklogAndAutoAdjustRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3764,11 +4298,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[79] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc9() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc80() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -3814,8 +4347,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[80] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc81() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateWorklogWithNewRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3868,8 +4405,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[81] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc82() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateWorklogAndAutoAdjustRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3915,8 +4456,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[82] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc83() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateWorklogAndRetainRemainingEstimate");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -3962,8 +4507,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[83] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc84() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getWorklogs");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4012,8 +4561,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[84] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc85() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("hasPermissionToCreateWorklog");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4053,8 +4606,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[85] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc86() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("hasPermissionToDeleteWorklog");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4094,8 +4651,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[86] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc87() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("hasPermissionToUpdateWorklog");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4135,8 +4696,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[87] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc88() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getResolutionDateByKey");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4184,8 +4749,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[88] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc89() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getResolutionDateById");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4233,11 +4802,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[89] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc10() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc90() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -4271,8 +4839,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[90] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc91() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssuesFromTextSearch");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4305,8 +4877,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[91] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc92() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssuesFromTextSearchWithProject");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4354,8 +4930,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[92] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc93() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssuesFromJqlSearch");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4395,8 +4975,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[93] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc94() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deleteUser");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4448,8 +5032,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[94] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc95() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("updateGroup");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4507,8 +5095,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[95] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc96() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("deleteGroup");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4567,8 +5159,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[96] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc97() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("refreshCustomFields");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4589,8 +5185,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[97] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc98() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getSavedFilters");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4632,8 +5232,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[98] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc99() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addBase64EncodedAttachmentsToIssue");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4705,11 +5309,10 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[99] = oper;
-
+		return oper;
 	}
 
-	private static void _initOperationDesc11() {
+	private static org.apache.axis.description.OperationDesc _createOperationDesc100() {
 		org.apache.axis.description.OperationDesc oper;
 		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
@@ -4769,8 +5372,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[100] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc101() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getSecuritySchemes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4812,8 +5419,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[101] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc102() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("addVersion");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4854,8 +5465,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[102] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc103() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssuesFromFilter");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4888,8 +5503,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[103] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc104() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssuesFromFilterWithLimit");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4936,8 +5555,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[104] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc105() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getIssuesFromTextSearchWithLimit");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -4984,8 +5607,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[105] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc106() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("getProjectsNoSchemes");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -5027,8 +5654,12 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[106] = oper;
+		return oper;
+	}
 
+	private static org.apache.axis.description.OperationDesc _createOperationDesc107() {
+		org.apache.axis.description.OperationDesc oper;
+		org.apache.axis.description.ParameterDesc param;
 		oper = new org.apache.axis.description.OperationDesc();
 		oper.setName("setNewProjectAvatar");
 		param = new org.apache.axis.description.ParameterDesc(
@@ -5078,8 +5709,7 @@ public class JirasoapserviceV2SoapBindingStub
 				new javax.xml.namespace.QName(
 						"http://exception.rpc.jira.atlassian.com",
 						"RemoteException"), true));
-		_operations[107] = oper;
-
+		return oper;
 	}
 
 	public JirasoapserviceV2SoapBindingStub() throws org.apache.axis.AxisFault {
@@ -5101,767 +5731,6 @@ public class JirasoapserviceV2SoapBindingStub
 		}
 		((org.apache.axis.client.Service) super.service)
 				.setTypeMappingVersion("1.2");
-		java.lang.Class cls;
-		javax.xml.namespace.QName qName;
-		javax.xml.namespace.QName qName2;
-		java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
-		java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
-		java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
-		java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
-		java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
-		java.lang.Class arraydf = org.apache.axis.encoding.ser.ArrayDeserializerFactory.class;
-		java.lang.Class simplesf = org.apache.axis.encoding.ser.SimpleSerializerFactory.class;
-		java.lang.Class simpledf = org.apache.axis.encoding.ser.SimpleDeserializerFactory.class;
-		java.lang.Class simplelistsf = org.apache.axis.encoding.ser.SimpleListSerializerFactory.class;
-		java.lang.Class simplelistdf = org.apache.axis.encoding.ser.SimpleListDeserializerFactory.class;
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"AbstractNamedRemoteEntity");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.AbstractNamedRemoteEntity.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"AbstractRemoteConstant");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.AbstractRemoteConstant.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"AbstractRemoteEntity");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.AbstractRemoteEntity.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteAttachment.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteAvatar");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteAvatar.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteComment.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteComponent.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemoteConfiguration");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteConfiguration.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemoteCustomFieldValue");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteEntity.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteField.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteFieldValue.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteFilter.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteGroup");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteGroup.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteIssue.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteIssueType.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteNamedObject.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermission.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemotePermissionMapping");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermissionMapping.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemotePermissionScheme");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermissionScheme.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePriority.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteProject.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteProjectRole.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemoteProjectRoleActors");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteProjectRoleActors.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteResolution.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteRoleActor.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActors");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteRoleActors.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteScheme.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemoteSecurityLevel");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteSecurityLevel.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteServerInfo");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteServerInfo.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteStatus.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteTimeInfo");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteTimeInfo.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteUser.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteVersion.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteWorklog.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://exception.rpc.jira.atlassian.com",
-				"RemoteAuthenticationException");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteAuthenticationException.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://exception.rpc.jira.atlassian.com", "RemoteException");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteException.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://exception.rpc.jira.atlassian.com",
-				"RemotePermissionException");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermissionException.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"http://exception.rpc.jira.atlassian.com",
-				"RemoteValidationException");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteValidationException.class;
-		cachedSerClasses.add(cls);
-		cachedSerFactories.add(beansf);
-		cachedDeserFactories.add(beandf);
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteAttachment");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteAttachment[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteAvatar");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteAvatar[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteAvatar");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteComment");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteComment[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteComponent");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteComponent[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteCustomFieldValue");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemoteCustomFieldValue");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteEntity");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteEntity[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteField");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteField[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteFieldValue");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteFieldValue[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteFilter");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteFilter[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteIssue");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteIssue[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteIssueType");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteIssueType[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteNamedObject");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteNamedObject[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemotePermission");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermission[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemotePermissionMapping");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermissionMapping[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemotePermissionMapping");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemotePermissionScheme");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePermissionScheme[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemotePermissionScheme");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemotePriority");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemotePriority[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteProject");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteProject[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteProjectRole");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteProjectRole[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteResolution");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteResolution[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteRoleActor");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteRoleActor[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteScheme");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteScheme[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteSecurityLevel");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteSecurityLevel[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com",
-				"RemoteSecurityLevel");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteStatus");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteStatus[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteUser");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteUser[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteVersion");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteVersion[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_tns1_RemoteWorklog");
-		cachedSerQNames.add(qName);
-		cls = com.atlassian.jira.rpc.soap.client.RemoteWorklog[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_xsd_base64Binary");
-		cachedSerQNames.add(qName);
-		cls = byte[][].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://www.w3.org/2001/XMLSchema", "byte");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
-		qName = new javax.xml.namespace.QName(
-				"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
-				"ArrayOf_xsd_string");
-		cachedSerQNames.add(qName);
-		cls = java.lang.String[].class;
-		cachedSerClasses.add(cls);
-		qName = new javax.xml.namespace.QName(
-				"http://www.w3.org/2001/XMLSchema", "string");
-		qName2 = null;
-		cachedSerFactories
-				.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
-						qName, qName2));
-		cachedDeserFactories
-				.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
-
 	}
 
 	protected org.apache.axis.client.Call createCall()
@@ -5896,30 +5765,16 @@ public class JirasoapserviceV2SoapBindingStub
 			// The type mapping information is actually registered in
 			// the TypeMappingRegistry of the service, which
 			// is the reason why registration is only needed for the first call.
-			synchronized (this) {
-				if (firstCall()) {
-					// must set encoding style before registering serializers
-					_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-					_call.setEncodingStyle(org.apache.axis.Constants.URI_SOAP11_ENC);
-					for (int i = 0; i < cachedSerFactories.size(); ++i) {
-						java.lang.Class cls = (java.lang.Class) cachedSerClasses
-								.get(i);
-						javax.xml.namespace.QName qName = (javax.xml.namespace.QName) cachedSerQNames
-								.get(i);
-						java.lang.Object x = cachedSerFactories.get(i);
-						if (x instanceof Class) {
-							java.lang.Class sf = (java.lang.Class) cachedSerFactories
-									.get(i);
-							java.lang.Class df = (java.lang.Class) cachedDeserFactories
-									.get(i);
-							_call.registerTypeMapping(cls, qName, sf, df, false);
-						} else if (x instanceof javax.xml.rpc.encoding.SerializerFactory) {
-							org.apache.axis.encoding.SerializerFactory sf = (org.apache.axis.encoding.SerializerFactory) cachedSerFactories
-									.get(i);
-							org.apache.axis.encoding.DeserializerFactory df = (org.apache.axis.encoding.DeserializerFactory) cachedDeserFactories
-									.get(i);
-							_call.registerTypeMapping(cls, qName, sf, df, false);
-						}
+			// Stubs may share one engine configuration, and so one registry,
+			// hence the lock common to all stubs.
+			if (!typeMappingsRegistered) {
+				synchronized (TypeMappings.class) {
+					if (!typeMappingsRegistered) {
+						// must set encoding style before registering serializers
+						_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+						_call.setEncodingStyle(org.apache.axis.Constants.URI_SOAP11_ENC);
+						TypeMappings.register(_call);
+						typeMappingsRegistered = true;
 					}
 				}
 			}
@@ -5930,19 +5785,936 @@ public class JirasoapserviceV2SoapBindingStub
 		}
 	}
 
+	/**
+	 * Returns a call for an operation, configured once with the stub
+	 * settings, the operation and its SOAPAction and reused, once released,
+	 * by the next calls of the operation on any thread
+	 * 
+	 * @param operation
+	 *            index of the operation descriptor
+	 * @return
+	 * @throws java.rmi.RemoteException
+	 */
+	protected org.apache.axis.client.Call createCall(int operation)
+			throws java.rmi.RemoteException {
+		int settings = callSettings;
+		java.util.concurrent.ConcurrentLinkedQueue<org.apache.axis.client.Call> idle = idleCalls
+				.get(operation);
+		org.apache.axis.client.Call _call = (idle == null) ? null : idle
+				.poll();
+		while (_call != null && callStates.get(_call)[1] != settings) {
+			// Built with older settings
+			callStates.remove(_call);
+			_call = idle.poll();
+		}
+		if (_call == null) {
+			org.apache.axis.description.OperationDesc oper = _operation(operation);
+			_call = createCall();
+			_call.setOperation(oper);
+			_call.setUseSOAPAction(true);
+			_call.setSOAPActionURI("");
+			_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
+			_call.setOperationName(new javax.xml.namespace.QName(
+					"http://soap.rpc.jira.atlassian.com", oper.getName()));
+			callStates.put(_call, new int[]{operation, settings});
+		} else {
+			_call.clearHeaders();
+		}
+		return _call;
+	}
+
+	/**
+	 * Drops the messages of a finished call, so a reused call does not keep
+	 * the last response alive, and hands it back to the stub unless the
+	 * settings changed since it was built
+	 * 
+	 * @param _call
+	 */
+	protected void releaseCall(org.apache.axis.client.Call _call) {
+		org.apache.axis.MessageContext msgContext = _call.getMessageContext();
+		if (msgContext != null) {
+			msgContext.setRequestMessage(null);
+			msgContext.setResponseMessage(null);
+		}
+		int[] state = callStates.get(_call);
+		if (state == null) {
+			return;
+		}
+		if (state[1] != callSettings) {
+			callStates.remove(_call);
+			return;
+		}
+		java.util.concurrent.ConcurrentLinkedQueue<org.apache.axis.client.Call> idle = idleCalls
+				.get(state[0]);
+		if (idle == null) {
+			idleCalls.compareAndSet(state[0], null,
+					new java.util.concurrent.ConcurrentLinkedQueue<org.apache.axis.client.Call>());
+			idle = idleCalls.get(state[0]);
+		}
+		idle.offer(_call);
+	}
+
+	public void _setProperty(java.lang.String name, java.lang.Object value) {
+		super._setProperty(name, value);
+		callSettings++;
+	}
+
+	public java.lang.Object removeProperty(java.lang.String name) {
+		java.lang.Object value = super.removeProperty(name);
+		callSettings++;
+		return value;
+	}
+
+	public void setUsername(java.lang.String username) {
+		super.setUsername(username);
+		callSettings++;
+	}
+
+	public void setPassword(java.lang.String password) {
+		super.setPassword(password);
+		callSettings++;
+	}
+
+	public void setTimeout(int timeout) {
+		super.setTimeout(timeout);
+		callSettings++;
+	}
+
+	public void setPortName(javax.xml.namespace.QName portName) {
+		super.setPortName(portName);
+		callSettings++;
+	}
+
+	public void setMaintainSession(boolean session) {
+		super.setMaintainSession(session);
+		callSettings++;
+	}
+
+	/**
+	 * Type mappings of the JIRA beans and arrays, built once per JVM with
+	 * their serializer factories. They are never modified, so any number of
+	 * stubs and calls can register them without locking.
+	 */
+	private static final class TypeMappings {
+
+		private static final java.lang.Class[] classes;
+		private static final javax.xml.namespace.QName[] qNames;
+		private static final org.apache.axis.encoding.SerializerFactory[] serFactories;
+		private static final org.apache.axis.encoding.DeserializerFactory[] deserFactories;
+
+		static {
+			java.util.List<java.lang.Class> cachedSerClasses = new java.util.ArrayList<java.lang.Class>();
+			java.util.List<javax.xml.namespace.QName> cachedSerQNames = new java.util.ArrayList<javax.xml.namespace.QName>();
+			java.util.List<java.lang.Object> cachedSerFactories = new java.util.ArrayList<java.lang.Object>();
+			java.util.List<java.lang.Object> cachedDeserFactories = new java.util.ArrayList<java.lang.Object>();
+			java.lang.Class cls;
+			javax.xml.namespace.QName qName;
+			javax.xml.namespace.QName qName2;
+			java.lang.Class beansf = org.apache.axis.encoding.ser.BeanSerializerFactory.class;
+			java.lang.Class beandf = org.apache.axis.encoding.ser.BeanDeserializerFactory.class;
+			java.lang.Class enumsf = org.apache.axis.encoding.ser.EnumSerializerFactory.class;
+			java.lang.Class enumdf = org.apache.axis.encoding.ser.EnumDeserializerFactory.class;
+			java.lang.Class arraysf = org.apache.axis.encoding.ser.ArraySerializerFactory.class;
+			java.lang.Class arraydf = org.apache.axis.encoding.ser.ArrayDeserializerFactory.class;
+			java.lang.Class simplesf = org.apache.axis.encoding.ser.SimpleSerializerFactory.class;
+			java.lang.Class simpledf = org.apache.axis.encoding.ser.SimpleDeserializerFactory.class;
+			java.lang.Class simplelistsf = org.apache.axis.encoding.ser.SimpleListSerializerFactory.class;
+			java.lang.Class simplelistdf = org.apache.axis.encoding.ser.SimpleListDeserializerFactory.class;
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"AbstractNamedRemoteEntity");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.AbstractNamedRemoteEntity.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"AbstractRemoteConstant");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.AbstractRemoteConstant.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"AbstractRemoteEntity");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.AbstractRemoteEntity.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteAttachment.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteAvatar");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteAvatar.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteComment.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteComponent.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemoteConfiguration");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteConfiguration.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemoteCustomFieldValue");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteEntity.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteField.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteFieldValue.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteFilter.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteGroup");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteGroup.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteIssue.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteIssueType.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteNamedObject.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermission.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemotePermissionMapping");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermissionMapping.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemotePermissionScheme");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermissionScheme.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePriority.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteProject.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteProjectRole.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemoteProjectRoleActors");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteProjectRoleActors.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteResolution.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteRoleActor.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActors");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteRoleActors.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteScheme.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemoteSecurityLevel");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteSecurityLevel.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteServerInfo");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteServerInfo.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteStatus.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteTimeInfo");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteTimeInfo.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteUser.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteVersion.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteWorklog.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://exception.rpc.jira.atlassian.com",
+					"RemoteAuthenticationException");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteAuthenticationException.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://exception.rpc.jira.atlassian.com", "RemoteException");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteException.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://exception.rpc.jira.atlassian.com",
+					"RemotePermissionException");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermissionException.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"http://exception.rpc.jira.atlassian.com",
+					"RemoteValidationException");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteValidationException.class;
+			cachedSerClasses.add(cls);
+			cachedSerFactories.add(beansf);
+			cachedDeserFactories.add(beandf);
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteAttachment");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteAttachment[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteAttachment");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteAvatar");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteAvatar[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteAvatar");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteComment");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteComment[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteComment");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteComponent");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteComponent[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteComponent");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteCustomFieldValue");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemoteCustomFieldValue");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteEntity");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteEntity[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteEntity");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteField");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteField[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteField");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteFieldValue");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteFieldValue[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteFieldValue");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteFilter");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteFilter[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteFilter");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteIssue");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteIssue[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssue");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteIssueType");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteIssueType[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteIssueType");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteNamedObject");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteNamedObject[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteNamedObject");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemotePermission");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermission[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemotePermission");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemotePermissionMapping");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermissionMapping[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemotePermissionMapping");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemotePermissionScheme");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePermissionScheme[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemotePermissionScheme");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemotePriority");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemotePriority[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemotePriority");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteProject");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteProject[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteProject");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteProjectRole");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteProjectRole[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteProjectRole");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteResolution");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteResolution[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteResolution");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteRoleActor");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteRoleActor[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteRoleActor");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteScheme");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteScheme[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteScheme");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteSecurityLevel");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteSecurityLevel[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com",
+					"RemoteSecurityLevel");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteStatus");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteStatus[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteStatus");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteUser");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteUser[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteUser");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteVersion");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteVersion[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteVersion");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_tns1_RemoteWorklog");
+			cachedSerQNames.add(qName);
+			cls = com.atlassian.jira.rpc.soap.client.RemoteWorklog[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://beans.soap.rpc.jira.atlassian.com", "RemoteWorklog");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_xsd_base64Binary");
+			cachedSerQNames.add(qName);
+			cls = byte[][].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://www.w3.org/2001/XMLSchema", "byte");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+
+			qName = new javax.xml.namespace.QName(
+					"https://issues.jboss.org/rpc/soap/jirasoapservice-v2",
+					"ArrayOf_xsd_string");
+			cachedSerQNames.add(qName);
+			cls = java.lang.String[].class;
+			cachedSerClasses.add(cls);
+			qName = new javax.xml.namespace.QName(
+					"http://www.w3.org/2001/XMLSchema", "string");
+			qName2 = null;
+			cachedSerFactories
+					.add(new org.apache.axis.encoding.ser.ArraySerializerFactory(
+							qName, qName2));
+			cachedDeserFactories
+					.add(new org.apache.axis.encoding.ser.ArrayDeserializerFactory());
+			int size = cachedSerClasses.size();
+			classes = cachedSerClasses.toArray(new java.lang.Class[size]);
+			qNames = cachedSerQNames
+					.toArray(new javax.xml.namespace.QName[size]);
+			serFactories = new org.apache.axis.encoding.SerializerFactory[size];
+			deserFactories = new org.apache.axis.encoding.DeserializerFactory[size];
+			for (int i = 0; i < size; ++i) {
+				java.lang.Object sf = cachedSerFactories.get(i);
+				java.lang.Object df = cachedDeserFactories.get(i);
+				if (sf instanceof java.lang.Class) {
+					serFactories[i] = org.apache.axis.encoding.ser.BaseSerializerFactory
+							.createFactory((java.lang.Class) sf, classes[i],
+									qNames[i]);
+					deserFactories[i] = org.apache.axis.encoding.ser.BaseDeserializerFactory
+							.createFactory((java.lang.Class) df, classes[i],
+									qNames[i]);
+				} else {
+					serFactories[i] = (org.apache.axis.encoding.SerializerFactory) sf;
+					deserFactories[i] = (org.apache.axis.encoding.DeserializerFactory) df;
+				}
+			}
+		}
+
+		private TypeMappings() {
+		}
+
+		/**
+		 * Registers every mapping in the type mapping of the call
+		 * 
+		 * @param _call
+		 */
+		static void register(org.apache.axis.client.Call _call) {
+			for (int i = 0; i < classes.length; ++i) {
+				if (serFactories[i] != null || deserFactories[i] != null) {
+					_call.registerTypeMapping(classes[i], qNames[i],
+							serFactories[i], deserFactories[i], false);
+				}
+			}
+		}
+	}
+
 	public com.atlassian.jira.rpc.soap.client.RemoteComment getComment(
 			java.lang.String in0, long in1) throws java.rmi.RemoteException,
 			com.atlassian.jira.rpc.soap.client.RemoteException {
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[0]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getComment"));
+		org.apache.axis.client.Call _call = createCall(0);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -5973,6 +6745,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -5981,13 +6755,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[1]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getServerInfo"));
+		org.apache.axis.client.Call _call = createCall(1);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6009,6 +6777,8 @@ public class JirasoapserviceV2SoapBindingStub
 			}
 		} catch (org.apache.axis.AxisFault axisFaultException) {
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6022,13 +6792,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[2]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getGroup"));
+		org.apache.axis.client.Call _call = createCall(2);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6068,6 +6832,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6078,13 +6844,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[3]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "login"));
+		org.apache.axis.client.Call _call = createCall(3);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6116,6 +6876,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6127,13 +6889,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[4]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getUser"));
+		org.apache.axis.client.Call _call = createCall(4);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6167,6 +6923,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6179,13 +6937,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[5]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssue"));
+		org.apache.axis.client.Call _call = createCall(5);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6222,6 +6974,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6234,13 +6988,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[6]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getVersions"));
+		org.apache.axis.client.Call _call = createCall(6);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6277,6 +7025,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6289,13 +7039,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[7]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getComponents"));
+		org.apache.axis.client.Call _call = createCall(7);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6332,6 +7076,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6346,13 +7092,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[8]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createGroup"));
+		org.apache.axis.client.Call _call = createCall(8);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6392,6 +7132,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6406,13 +7148,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[9]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createUser"));
+		org.apache.axis.client.Call _call = createCall(9);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6452,6 +7188,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6466,13 +7204,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[10]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createIssue"));
+		org.apache.axis.client.Call _call = createCall(10);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6512,6 +7244,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6523,13 +7257,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[11]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "updateIssue"));
+		org.apache.axis.client.Call _call = createCall(11);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6560,6 +7288,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6571,13 +7301,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[12]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deleteIssue"));
+		org.apache.axis.client.Call _call = createCall(12);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6605,6 +7329,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6615,13 +7341,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[13]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getAvailableActions"));
+		org.apache.axis.client.Call _call = createCall(13);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6652,6 +7372,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6662,13 +7384,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[14]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getSubTaskIssueTypes"));
+		org.apache.axis.client.Call _call = createCall(14);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6701,6 +7417,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6712,13 +7430,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[15]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getConfiguration"));
+		org.apache.axis.client.Call _call = createCall(15);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6754,6 +7466,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6771,13 +7485,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[16]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createProject"));
+		org.apache.axis.client.Call _call = createCall(16);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6817,6 +7525,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6831,13 +7541,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[17]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "updateProject"));
+		org.apache.axis.client.Call _call = createCall(17);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6877,6 +7581,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6889,13 +7595,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[18]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectByKey"));
+		org.apache.axis.client.Call _call = createCall(18);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6932,6 +7632,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6942,14 +7644,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[19]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"removeAllRoleActorsByProject"));
+		org.apache.axis.client.Call _call = createCall(19);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -6971,6 +7666,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -6981,13 +7678,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[20]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getPriorities"));
+		org.apache.axis.client.Call _call = createCall(20);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7020,6 +7711,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7030,13 +7723,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[21]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getResolutions"));
+		org.apache.axis.client.Call _call = createCall(21);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7069,6 +7756,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7079,13 +7768,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[22]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssueTypes"));
+		org.apache.axis.client.Call _call = createCall(22);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7118,6 +7801,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7128,13 +7813,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[23]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getStatuses"));
+		org.apache.axis.client.Call _call = createCall(23);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7167,6 +7846,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7178,13 +7859,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[24]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssueTypesForProject"));
+		org.apache.axis.client.Call _call = createCall(24);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7218,6 +7893,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7227,13 +7904,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[25]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectRoles"));
+		org.apache.axis.client.Call _call = createCall(25);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7263,6 +7934,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7272,13 +7945,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[26]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectRole"));
+		org.apache.axis.client.Call _call = createCall(26);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7309,6 +7976,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7321,13 +7990,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[27]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectRoleActors"));
+		org.apache.axis.client.Call _call = createCall(27);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7358,6 +8021,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7369,13 +8034,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[28]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getDefaultRoleActors"));
+		org.apache.axis.client.Call _call = createCall(28);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7406,6 +8065,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7416,14 +8077,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[29]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"removeAllRoleActorsByNameAndType"));
+		org.apache.axis.client.Call _call = createCall(29);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7445,6 +8099,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7455,13 +8111,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[30]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deleteProjectRole"));
+		org.apache.axis.client.Call _call = createCall(30);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7483,6 +8133,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7493,13 +8145,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[31]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "updateProjectRole"));
+		org.apache.axis.client.Call _call = createCall(31);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7521,6 +8167,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7532,13 +8180,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[32]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createProjectRole"));
+		org.apache.axis.client.Call _call = createCall(32);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7569,6 +8211,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7578,13 +8222,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[33]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "isProjectRoleNameUnique"));
+		org.apache.axis.client.Call _call = createCall(33);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7613,6 +8251,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7625,13 +8265,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[34]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "addActorsToProjectRole"));
+		org.apache.axis.client.Call _call = createCall(34);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7653,6 +8287,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7665,14 +8301,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[35]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"removeActorsFromProjectRole"));
+		org.apache.axis.client.Call _call = createCall(35);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7694,6 +8323,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7705,14 +8336,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[36]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"addDefaultActorsToProjectRole"));
+		org.apache.axis.client.Call _call = createCall(36);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7734,6 +8358,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7745,14 +8371,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[37]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"removeDefaultActorsFromProjectRole"));
+		org.apache.axis.client.Call _call = createCall(37);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7774,6 +8393,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7785,14 +8406,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[38]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getAssociatedNotificationSchemes"));
+		org.apache.axis.client.Call _call = createCall(38);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7823,6 +8437,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7834,14 +8450,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[39]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getAssociatedPermissionSchemes"));
+		org.apache.axis.client.Call _call = createCall(39);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7872,6 +8481,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7883,13 +8494,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[40]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deleteProject"));
+		org.apache.axis.client.Call _call = createCall(40);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7917,6 +8522,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7928,13 +8535,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[41]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectById"));
+		org.apache.axis.client.Call _call = createCall(41);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -7971,6 +8572,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -7980,13 +8583,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[42]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getCustomFields"));
+		org.apache.axis.client.Call _call = createCall(42);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8016,6 +8613,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8028,13 +8627,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[43]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getComments"));
+		org.apache.axis.client.Call _call = createCall(43);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8071,6 +8664,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8082,13 +8677,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[44]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getFavouriteFilters"));
+		org.apache.axis.client.Call _call = createCall(44);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8124,6 +8713,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8134,13 +8725,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[45]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "releaseVersion"));
+		org.apache.axis.client.Call _call = createCall(45);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8162,6 +8747,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8171,13 +8758,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[46]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "archiveVersion"));
+		org.apache.axis.client.Call _call = createCall(46);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8199,6 +8780,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8209,13 +8792,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[47]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getFieldsForEdit"));
+		org.apache.axis.client.Call _call = createCall(47);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8246,6 +8823,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8257,14 +8836,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[48]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getSubTaskIssueTypesForProject"));
+		org.apache.axis.client.Call _call = createCall(48);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8298,6 +8870,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8312,13 +8886,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[49]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "addUserToGroup"));
+		org.apache.axis.client.Call _call = createCall(49);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8349,6 +8917,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8363,13 +8933,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[50]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "removeUserFromGroup"));
+		org.apache.axis.client.Call _call = createCall(50);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8400,6 +8964,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8411,13 +8977,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[51]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getSecurityLevel"));
+		org.apache.axis.client.Call _call = createCall(51);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8451,6 +9011,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8458,13 +9020,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[52]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "logout"));
+		org.apache.axis.client.Call _call = createCall(52);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8484,6 +9040,8 @@ public class JirasoapserviceV2SoapBindingStub
 			}
 		} catch (org.apache.axis.AxisFault axisFaultException) {
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8496,13 +9054,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[53]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "addComment"));
+		org.apache.axis.client.Call _call = createCall(53);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8530,6 +9082,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8539,14 +9093,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[54]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getProjectWithSchemesById"));
+		org.apache.axis.client.Call _call = createCall(54);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8577,6 +9124,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8588,13 +9137,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[55]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getSecurityLevels"));
+		org.apache.axis.client.Call _call = createCall(55);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8628,6 +9171,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8639,13 +9184,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[56]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectAvatars"));
+		org.apache.axis.client.Call _call = createCall(56);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8679,6 +9218,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8689,13 +9230,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[57]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "setProjectAvatar"));
+		org.apache.axis.client.Call _call = createCall(57);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8720,6 +9255,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8731,13 +9268,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[58]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectAvatar"));
+		org.apache.axis.client.Call _call = createCall(58);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8771,6 +9302,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8780,13 +9313,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[59]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deleteProjectAvatar"));
+		org.apache.axis.client.Call _call = createCall(59);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8808,6 +9335,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8819,13 +9348,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[60]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getNotificationSchemes"));
+		org.apache.axis.client.Call _call = createCall(60);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8861,6 +9384,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8872,13 +9397,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[61]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getPermissionSchemes"));
+		org.apache.axis.client.Call _call = createCall(61);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8914,6 +9433,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8925,13 +9446,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[62]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getAllPermissions"));
+		org.apache.axis.client.Call _call = createCall(62);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -8967,6 +9482,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -8980,13 +9497,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[63]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createPermissionScheme"));
+		org.apache.axis.client.Call _call = createCall(63);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9026,6 +9537,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9042,13 +9555,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[64]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "addPermissionTo"));
+		org.apache.axis.client.Call _call = createCall(64);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9088,6 +9595,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9104,13 +9613,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[65]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deletePermissionFrom"));
+		org.apache.axis.client.Call _call = createCall(65);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9150,6 +9653,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9162,13 +9667,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[66]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deletePermissionScheme"));
+		org.apache.axis.client.Call _call = createCall(66);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9199,6 +9698,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9213,14 +9714,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[67]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"createIssueWithSecurityLevel"));
+		org.apache.axis.client.Call _call = createCall(67);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9260,6 +9754,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9273,13 +9769,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[68]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "addAttachmentsToIssue"));
+		org.apache.axis.client.Call _call = createCall(68);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9317,6 +9807,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9330,13 +9822,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[69]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getAttachmentsFromIssue"));
+		org.apache.axis.client.Call _call = createCall(69);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9376,6 +9862,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9386,14 +9874,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[70]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"hasPermissionToEditComment"));
+		org.apache.axis.client.Call _call = createCall(70);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9422,6 +9903,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9433,13 +9916,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[71]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "editComment"));
+		org.apache.axis.client.Call _call = createCall(71);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9470,6 +9947,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9480,13 +9959,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[72]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getFieldsForAction"));
+		org.apache.axis.client.Call _call = createCall(72);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9517,6 +9990,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9528,13 +10003,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[73]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "progressWorkflowAction"));
+		org.apache.axis.client.Call _call = createCall(73);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9565,6 +10034,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9577,13 +10048,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[74]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssueById"));
+		org.apache.axis.client.Call _call = createCall(74);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9620,6 +10085,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9633,14 +10100,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[75]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"addWorklogWithNewRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(75);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9677,6 +10137,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9690,14 +10152,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[76]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"addWorklogAndAutoAdjustRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(76);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9734,6 +10189,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9747,14 +10204,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[77]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"addWorklogAndRetainRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(77);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9791,6 +10241,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9803,14 +10255,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[78]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"deleteWorklogWithNewRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(78);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9838,6 +10283,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9850,14 +10297,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[79]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"deleteWorklogAndAutoAdjustRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(79);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9885,6 +10325,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9896,14 +10338,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[80]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"deleteWorklogAndRetainRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(80);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9931,6 +10366,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9943,14 +10380,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[81]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"updateWorklogWithNewRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(81);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -9978,6 +10408,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -9991,14 +10423,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[82]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"updateWorklogAndAutoAdjustRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(82);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10026,6 +10451,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10038,14 +10465,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[83]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"updateWorklogAndRetainRemainingEstimate"));
+		org.apache.axis.client.Call _call = createCall(83);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10073,6 +10493,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10085,13 +10507,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[84]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getWorklogs"));
+		org.apache.axis.client.Call _call = createCall(84);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10128,6 +10544,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10138,14 +10556,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[85]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"hasPermissionToCreateWorklog"));
+		org.apache.axis.client.Call _call = createCall(85);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10177,6 +10588,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10187,14 +10600,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[86]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"hasPermissionToDeleteWorklog"));
+		org.apache.axis.client.Call _call = createCall(86);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10226,6 +10632,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10236,14 +10644,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[87]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"hasPermissionToUpdateWorklog"));
+		org.apache.axis.client.Call _call = createCall(87);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10275,6 +10676,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10286,13 +10689,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[88]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getResolutionDateByKey"));
+		org.apache.axis.client.Call _call = createCall(88);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10327,6 +10724,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10338,13 +10737,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[89]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getResolutionDateById"));
+		org.apache.axis.client.Call _call = createCall(89);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10379,6 +10772,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10388,13 +10783,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[90]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssueCountForFilter"));
+		org.apache.axis.client.Call _call = createCall(90);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10423,6 +10812,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10433,13 +10824,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[91]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssuesFromTextSearch"));
+		org.apache.axis.client.Call _call = createCall(91);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10470,6 +10855,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10480,14 +10867,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[92]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getIssuesFromTextSearchWithProject"));
+		org.apache.axis.client.Call _call = createCall(92);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10518,6 +10898,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10528,13 +10910,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[93]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssuesFromJqlSearch"));
+		org.apache.axis.client.Call _call = createCall(93);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10565,6 +10941,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10577,13 +10955,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[94]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deleteUser"));
+		org.apache.axis.client.Call _call = createCall(94);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10614,6 +10986,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10628,13 +11002,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[95]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "updateGroup"));
+		org.apache.axis.client.Call _call = createCall(95);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10674,6 +11042,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10686,13 +11056,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[96]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "deleteGroup"));
+		org.apache.axis.client.Call _call = createCall(96);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10723,6 +11087,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10732,13 +11098,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[97]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "refreshCustomFields"));
+		org.apache.axis.client.Call _call = createCall(97);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10759,6 +11119,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10770,13 +11132,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[98]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getSavedFilters"));
+		org.apache.axis.client.Call _call = createCall(98);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10812,6 +11168,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10825,14 +11183,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[99]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"addBase64EncodedAttachmentsToIssue"));
+		org.apache.axis.client.Call _call = createCall(99);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10870,6 +11221,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10884,13 +11237,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[100]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "createProjectFromObject"));
+		org.apache.axis.client.Call _call = createCall(100);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10930,6 +11277,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10941,13 +11290,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[101]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getSecuritySchemes"));
+		org.apache.axis.client.Call _call = createCall(101);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -10983,6 +11326,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -10994,13 +11339,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[102]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "addVersion"));
+		org.apache.axis.client.Call _call = createCall(102);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -11031,6 +11370,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -11041,13 +11382,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[103]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getIssuesFromFilter"));
+		org.apache.axis.client.Call _call = createCall(103);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -11078,6 +11413,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -11088,14 +11425,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[104]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getIssuesFromFilterWithLimit"));
+		org.apache.axis.client.Call _call = createCall(104);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -11128,6 +11458,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -11138,14 +11470,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[105]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com",
-				"getIssuesFromTextSearchWithLimit"));
+		org.apache.axis.client.Call _call = createCall(105);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -11178,6 +11503,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -11189,13 +11516,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[106]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "getProjectsNoSchemes"));
+		org.apache.axis.client.Call _call = createCall(106);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -11231,6 +11552,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
@@ -11242,13 +11565,7 @@ public class JirasoapserviceV2SoapBindingStub
 		if (super.cachedEndpoint == null) {
 			throw new org.apache.axis.NoEndPointException();
 		}
-		org.apache.axis.client.Call _call = createCall();
-		_call.setOperation(_operations[107]);
-		_call.setUseSOAPAction(true);
-		_call.setSOAPActionURI("");
-		_call.setSOAPVersion(org.apache.axis.soap.SOAPConstants.SOAP11_CONSTANTS);
-		_call.setOperationName(new javax.xml.namespace.QName(
-				"http://soap.rpc.jira.atlassian.com", "setNewProjectAvatar"));
+		org.apache.axis.client.Call _call = createCall(107);
 
 		setRequestHeaders(_call);
 		setAttachments(_call);
@@ -11273,6 +11590,8 @@ public class JirasoapserviceV2SoapBindingStub
 				}
 			}
 			throw axisFaultException;
+		} finally {
+			releaseCall(_call);
 		}
 	}
 
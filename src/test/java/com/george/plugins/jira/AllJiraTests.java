@@ -5,7 +5,16 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @SuiteClasses({CreateNewVersionMojoTest.class, ReleaseVersionMojoTest.class,
-		PlexusJiraVersionMojoTest.class})
+		PlexusJiraVersionMojoTest.class, JiraSessionManagerTest.class,
+		JiraServiceRegistryTest.class, CompressionStatisticsTest.class,
+		ResilienceDecoratorTest.class, JiraClientTest.class,
+		MetadataCacheDecoratorTest.class, JiraSnapshotDecoratorTest.class,
+		SingleFlightDecoratorTest.class, MemoryCacheDecoratorTest.class,
+		IssueConstantsTest.class, IssueStoreTest.class, JqlQueryTest.class,
+		NegativeCacheDecoratorTest.class, JvmCacheTest.class,
+		IssuePagerTest.class, PartitionedSearchTest.class,
+		ReleaseNotesWriterTest.class, IssueTemplateTest.class,
+		ReleaseNotesTest.class})
 @RunWith(Suite.class)
 public class AllJiraTests {
 
@@ -0,0 +1,93 @@
+package com.george.plugins.jira;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * JUnit test case for the gzip savings report
+ *
+ */
+public class CompressionStatisticsTest {
+
+	@Test
+	public void testSavedBytes() throws Exception {
+		CompressionStatistics statistics = new CompressionStatistics();
+		long[] before = statistics.snapshot();
+		InputStream body = statistics.countResponse(new ByteArrayInputStream(
+				new byte[4096]), true, 1024);
+		while (body.read(new byte[100]) != -1) {
+			// consume
+		}
+		statistics.countResponse(new ByteArrayInputStream(new byte[10]),
+				false, 10).read();
+		assertEquals(
+				"2 JIRA responses (1 gzipped): 1 KB received for 4 KB of XML, 3 KB saved",
+				statistics.describe(before));
+	}
+
+	@Test
+	public void testChunkedResponses() throws Exception {
+		CompressionStatistics statistics = new CompressionStatistics();
+		long[] before = statistics.snapshot();
+		InputStream body = statistics.countResponse(new ByteArrayInputStream(
+				new byte[2048]), true, -1);
+		while (body.read() != -1) {
+			// consume
+		}
+		assertEquals(
+				"1 JIRA responses (1 gzipped): 0 KB received for 0 KB of XML, 0 KB saved, plus 2 KB of XML in chunked responses",
+				statistics.describe(before));
+	}
+
+	@Test
+	public void testTrafficCountedPerExecution() throws Exception {
+		// Stands for the transport, crediting the current statistics
+		JiraSoapService transport = (JiraSoapService) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[]{JiraSoapService.class}, new InvocationHandler() {
+					public Object invoke(Object proxy, Method method,
+							Object[] args) throws Throwable {
+						CompressionStatistics.current().countResponse(
+								new ByteArrayInputStream(new byte[10]), false,
+								10);
+						return null;
+					}
+				});
+		CompressionStatistics first = new CompressionStatistics();
+		CompressionStatistics second = new CompressionStatistics();
+		long[] before = first.snapshot();
+		final JiraSoapService firstService = new CompressionStatisticsDecorator(
+				transport, first).decorate();
+		JiraSoapService secondService = new CompressionStatisticsDecorator(
+				transport, second).decorate();
+
+		Thread other = new Thread() {
+			@Override
+			public void run() {
+				try {
+					firstService.getVersions("TOKEN", "KEY");
+					firstService.getVersions("TOKEN", "KEY");
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+		other.start();
+		secondService.getVersions("TOKEN", "KEY");
+		other.join();
+
+		assertEquals(2, first.snapshot()[0] - before[0]);
+		assertEquals(1, second.snapshot()[0] - before[0]);
+		assertNull(CompressionStatistics.current());
+	}
+}
@@ -1,13 +1,23 @@
 package com.george.plugins.jira;
 
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
 import java.io.File;
+import java.io.FileInputStream;
 
+import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.testing.AbstractMojoTestCase;
+import org.easymock.EasyMock;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
 @RunWith(JUnit4.class)
 public class GenerateReleaseNotesMojoTest extends AbstractMojoTestCase {
 
@@ -29,4 +39,72 @@ public class GenerateReleaseNotesMojoTest extends AbstractMojoTestCase {
 				"target/releaseNotes.txt").exists());
 	}
 
+	private static GenerateReleaseNotesMojo pagedMojo(File target) {
+		GenerateReleaseNotesMojo mojo = new GenerateReleaseNotesMojo();
+		mojo.jiraProjectKey = "KEY";
+		mojo.releaseVersion = "1.0";
+		mojo.targetFile = target;
+		mojo.lineEndings = "lf";
+		mojo.maxIssues = 1;
+		mojo.pageSize = 2;
+		mojo.localJql = true;
+		return mojo;
+	}
+
+	private static RemoteIssue issue(String key) {
+		RemoteIssue issue = new RemoteIssue();
+		issue.setKey(key);
+		issue.setSummary("Fix " + key);
+		return issue;
+	}
+
+	@Test
+	public void testPagingWithLocalJql() throws Exception {
+		File target = File.createTempFile("releaseNotes", ".txt");
+		String jql = "project = 'KEY' AND status in (Resolved, Closed)"
+				+ " AND fixVersion = '1.0'";
+		JiraSoapService jiraStub = EasyMock
+				.createStrictMock(JiraSoapService.class);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", jql
+				+ " ORDER BY issuekey ASC", 2)).andReturn(
+				new RemoteIssue[]{issue("KEY-1"), issue("KEY-2")});
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + jql
+				+ ") AND issuekey > \"KEY-2\" ORDER BY issuekey ASC", 2))
+				.andReturn(new RemoteIssue[]{issue("KEY-3")});
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + jql
+				+ ") AND issuekey > \"KEY-3\" ORDER BY issuekey ASC", 2))
+				.andReturn(new RemoteIssue[0]);
+		replay(jiraStub);
+		try {
+			pagedMojo(target).doExecute(jiraStub, "TOKEN");
+			verify(jiraStub);
+			byte[] notes = new byte[(int) target.length()];
+			FileInputStream in = new FileInputStream(target);
+			try {
+				in.read(notes);
+			} finally {
+				in.close();
+			}
+			assertEquals("[KEY-1] Fix KEY-1\n[KEY-2] Fix KEY-2\n"
+					+ "[KEY-3] Fix KEY-3\n", new String(notes, "US-ASCII"));
+		} finally {
+			target.delete();
+		}
+	}
+
+	@Test
+	public void testPagingAcrossProjectsFailsTheBuild() throws Exception {
+		GenerateReleaseNotesMojo mojo = pagedMojo(null);
+		mojo.jqlTemplate = "project in (KEY, OTHER) AND fixVersion = ''{1}''";
+		JiraSoapService jiraStub = EasyMock
+				.createStrictMock(JiraSoapService.class);
+		replay(jiraStub);
+		try {
+			mojo.doExecute(jiraStub, "TOKEN");
+			fail("Keys of several projects cannot be paged");
+		} catch (MojoFailureException e) {
+			// Expected
+		}
+		verify(jiraStub);
+	}
 }
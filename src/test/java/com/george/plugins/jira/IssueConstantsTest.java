@@ -0,0 +1,94 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemotePriority;
+import com.atlassian.jira.rpc.soap.client.RemoteResolution;
+import com.atlassian.jira.rpc.soap.client.RemoteStatus;
+
+/**
+ * JUnit test case for the names of issue types, statuses, priorities and
+ * resolutions
+ *
+ */
+public class IssueConstantsTest {
+
+	private static final RemoteIssueType[] TYPES = new RemoteIssueType[]{
+			new RemoteIssueType("10", "Story", null, null, false),
+			new RemoteIssueType("1", "Bug", null, null, false),
+			new RemoteIssueType("custom-type", "Spike", null, null, false)};
+	private static final RemoteIssueType[] SUB_TASK_TYPES = new RemoteIssueType[]{new RemoteIssueType(
+			"5", "Sub-task", null, null, true)};
+	private static final RemoteStatus[] STATUSES = new RemoteStatus[]{new RemoteStatus(
+			"6", "Closed", null, null)};
+	private static final RemotePriority[] PRIORITIES = new RemotePriority[]{new RemotePriority(
+			"3", "Major", null, null, null)};
+	private static final RemoteResolution[] RESOLUTIONS = new RemoteResolution[]{new RemoteResolution(
+			"1", "Fixed", null, null)};
+
+	private static RemoteIssue issue(String type) {
+		RemoteIssue issue = new RemoteIssue();
+		issue.setType(type);
+		issue.setStatus("6");
+		issue.setPriority("3");
+		return issue;
+	}
+
+	@Test
+	public void testNamesLoadedOnce() throws Exception {
+		JiraSoapService jiraStub = EasyMock.createMock(JiraSoapService.class);
+		expect(jiraStub.getIssueTypes("TOKEN")).andReturn(TYPES).once();
+		expect(jiraStub.getSubTaskIssueTypes("TOKEN")).andReturn(
+				SUB_TASK_TYPES).once();
+		expect(jiraStub.getStatuses("TOKEN")).andReturn(STATUSES).once();
+		expect(jiraStub.getPriorities("TOKEN")).andReturn(PRIORITIES).once();
+		expect(jiraStub.getResolutions("TOKEN")).andReturn(RESOLUTIONS)
+				.once();
+		replay(jiraStub);
+
+		IssueConstants constants = IssueConstants.load(new JiraClient(
+				jiraStub, "TOKEN", JiraExecutors.forParallelism(2)));
+		for (int i = 0; i < 1000; i++) {
+			RemoteIssue issue = issue("1");
+			assertEquals("Bug", constants.typeOf(issue));
+			assertEquals("Closed", constants.statusOf(issue));
+			assertEquals("Major", constants.priorityOf(issue));
+			assertNull(constants.resolutionOf(issue));
+		}
+		assertEquals("Sub-task", constants.typeOf(issue("5")));
+		assertEquals("Story", constants.typeOf(issue("10")));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testUnsortedAndTextualIds() {
+		IssueConstants constants = new IssueConstants(TYPES, STATUSES,
+				PRIORITIES, null);
+		assertEquals("Story", constants.typeOf(issue("10")));
+		assertEquals("Spike", constants.typeOf(issue("custom-type")));
+		assertEquals("42", constants.typeOf(issue("42")));
+		RemoteIssue resolved = issue("1");
+		resolved.setResolution("1");
+		assertEquals("1", constants.resolutionOf(resolved));
+	}
+
+	@Test
+	public void testNamesOnlyLoadedForTemplatesUsingThem() {
+		GenerateReleaseNotesMojo mojo = new GenerateReleaseNotesMojo();
+		assertFalse(mojo.usesConstantNames());
+		mojo.setIssueTemplate("[{0}] {1} ({2}, {5})");
+		assertTrue(mojo.usesConstantNames());
+	}
+}
@@ -0,0 +1,120 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * JUnit test case for the searches read page by page
+ *
+ */
+public class IssuePagerTest {
+
+	private static final String JQL = "project = 'KEY' AND fixVersion = '1.0'";
+
+	private JiraSoapService jiraStub;
+	private final List<String> keys = new ArrayList<String>();
+	private final IssuePager.PageHandler handler = new IssuePager.PageHandler() {
+		public void handle(RemoteIssue[] page) {
+			for (RemoteIssue issue : page) {
+				keys.add(issue.getKey());
+			}
+		}
+	};
+
+	@Before
+	public void setUp() {
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+	}
+
+	private static RemoteIssue[] issues(String... keys) {
+		RemoteIssue[] issues = new RemoteIssue[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			issues[i] = new RemoteIssue();
+			issues[i].setKey(keys[i]);
+		}
+		return issues;
+	}
+
+	@Test
+	public void testPagesFollowLastKey() throws Exception {
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN",
+				JQL + " ORDER BY issuekey ASC", 2)).andReturn(
+				issues("KEY-1", "KEY-2"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND issuekey > \"KEY-2\" ORDER BY issuekey ASC", 2))
+				.andReturn(issues("KEY-5", "KEY-9"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND issuekey > \"KEY-9\" ORDER BY issuekey ASC", 2))
+				.andReturn(issues("KEY-10"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND issuekey > \"KEY-10\" ORDER BY issuekey ASC", 2))
+				.andReturn(new RemoteIssue[0]);
+		replay(jiraStub);
+
+		assertEquals(5, IssuePager.search(jiraStub, "TOKEN", JQL
+				+ " ORDER BY priority DESC", 2, handler, new SystemStreamLog()));
+		assertEquals("[KEY-1, KEY-2, KEY-5, KEY-9, KEY-10]", keys.toString());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testFullLastPage() throws Exception {
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN",
+				JQL + " ORDER BY issuekey ASC", 2)).andReturn(
+				issues("KEY-1", "KEY-2"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND issuekey > \"KEY-2\" ORDER BY issuekey ASC", 2))
+				.andReturn(new RemoteIssue[0]);
+		replay(jiraStub);
+
+		assertEquals(2, IssuePager.search(jiraStub, "TOKEN", JQL, 2, handler,
+				new SystemStreamLog()));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testShortPageIsNotTheLast() throws Exception {
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN",
+				JQL + " ORDER BY issuekey ASC", 5)).andReturn(
+				issues("KEY-1", "KEY-2"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND issuekey > \"KEY-2\" ORDER BY issuekey ASC", 5))
+				.andReturn(issues("KEY-3"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND issuekey > \"KEY-3\" ORDER BY issuekey ASC", 5))
+				.andReturn(null);
+		replay(jiraStub);
+
+		assertEquals(3, IssuePager.search(jiraStub, "TOKEN", JQL, 5, handler,
+				new SystemStreamLog()));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testSeveralProjectsRefused() throws Exception {
+		replay(jiraStub);
+		try {
+			IssuePager.search(jiraStub, "TOKEN",
+					"project in (KEY, OTHER) AND fixVersion = '1.0'", 2,
+					handler, new SystemStreamLog());
+			fail("Keys of several projects cannot be paged");
+		} catch (IllegalArgumentException e) {
+			// Expected
+		}
+		verify(jiraStub);
+	}
+}
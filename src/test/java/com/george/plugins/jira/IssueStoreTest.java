@@ -0,0 +1,244 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * JUnit test case for the local JIRA issue store
+ *
+ */
+public class IssueStoreTest {
+
+	private static final String JQL = "project = 'KEY' AND fixVersion = '1.0'";
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("jira-issues", ".log");
+		file.delete();
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+		new File(file.getPath() + ".tmp").delete();
+		new File(file.getPath() + ".lock").delete();
+	}
+
+	private static RemoteIssue issue(String key, String summary, long updated) {
+		RemoteIssue issue = new RemoteIssue();
+		issue.setKey(key);
+		issue.setSummary(summary);
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(updated);
+		issue.setUpdated(calendar);
+		return issue;
+	}
+
+	@Test
+	public void testOnlyNewerIssuesStored() throws Exception {
+		IssueStore store = new IssueStore(file);
+		assertEquals(2, store.upsert(new RemoteIssue[]{
+				issue("KEY-1", "First", 1000), issue("KEY-2", "Second", 1000)}));
+		assertEquals(0, store.upsert(new RemoteIssue[]{issue("KEY-1",
+				"Stale", 500)}));
+		assertEquals(1, store.upsert(new RemoteIssue[]{issue("KEY-1",
+				"Renamed", 2000)}));
+
+		IssueStore reopened = new IssueStore(file);
+		assertEquals(2, reopened.size());
+		RemoteIssue[] issues = reopened.get(Arrays.asList("KEY-2", "KEY-1"));
+		assertEquals("Second", issues[0].getSummary());
+		assertEquals("Renamed", issues[1].getSummary());
+		assertNull(reopened.get(Collections.singletonList("KEY-3")));
+	}
+
+	@Test
+	public void testIncompleteRecordDropped() throws Exception {
+		IssueStore store = new IssueStore(file);
+		store.upsert(new RemoteIssue[]{issue("KEY-1", "First", 1000)});
+		long complete = file.length();
+		store.upsert(new RemoteIssue[]{issue("KEY-2", "Second", 1000)});
+		RandomAccessFile out = new RandomAccessFile(file, "rw");
+		out.setLength(file.length() - 3);
+		out.close();
+
+		IssueStore reopened = new IssueStore(file);
+		assertEquals(1, reopened.size());
+		assertEquals(complete, file.length());
+		reopened.upsert(new RemoteIssue[]{issue("KEY-2", "Second", 1000)});
+		assertEquals("Second", new IssueStore(file).get(
+				Collections.singletonList("KEY-2"))[0].getSummary());
+	}
+
+	@Test
+	public void testCompactionKeepsLatestRecords() throws Exception {
+		IssueStore store = new IssueStore(file);
+		for (int i = 1; i <= 100; i++) {
+			store.upsert(new RemoteIssue[]{issue("KEY-1", "Version " + i, i),
+					issue("KEY-2", "Other " + i, i)});
+		}
+		long before = file.length();
+		store.compact();
+		assertTrue(file.length() * 50 < before);
+		assertEquals("Version 100", store.get(
+				Collections.singletonList("KEY-1"))[0].getSummary());
+		assertEquals("Other 100", new IssueStore(file).get(
+				Collections.singletonList("KEY-2"))[0].getSummary());
+	}
+
+	@Test
+	public void testFileSharedWithAnotherBuild() throws Exception {
+		IssueStore store = new IssueStore(file);
+		IssueStore other = new IssueStore(file);
+		store.upsert(new RemoteIssue[]{issue("KEY-1", "First", 1000)});
+		other.upsert(new RemoteIssue[]{issue("KEY-2", "Second", 1000)});
+		store.upsert(new RemoteIssue[]{issue("KEY-3", "Third", 1000)});
+		for (int i = 1; i <= 100; i++) {
+			store.upsert(new RemoteIssue[]{issue("KEY-1", "Version " + i,
+					1000 + i)});
+		}
+		store.compact();
+
+		RemoteIssue[] issues = other.get(Arrays.asList("KEY-1", "KEY-2",
+				"KEY-3"));
+		assertEquals("Version 100", issues[0].getSummary());
+		assertEquals("Second", issues[1].getSummary());
+		assertEquals("Third", issues[2].getSummary());
+		assertEquals(3, other.size());
+	}
+
+	@Test
+	public void testOrderingReproducedLocally() throws Exception {
+		long now = System.currentTimeMillis();
+		String ordered = JQL + " ORDER BY updated DESC";
+		JiraSoapService jiraStub = EasyMock
+				.createStrictMock(JiraSoapService.class);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", ordered, 100))
+				.andReturn(
+						new RemoteIssue[]{issue("KEY-2", "Second", now),
+								issue("KEY-1", "First", now - 1)});
+		expect(
+				jiraStub.getIssuesFromJqlSearch(EasyMock.eq("TOKEN"), EasyMock
+						.matches("\\(" + JQL
+								+ "\\) AND updated >= \".*\" ORDER BY .*"),
+						EasyMock.eq(100))).andReturn(
+				new RemoteIssue[]{issue("KEY-1", "First, renamed", now + 1)});
+		expect(
+				jiraStub.getIssuesFromJqlSearch(EasyMock.eq("TOKEN"), EasyMock
+						.matches("issuekey in \\(KEY-2\\) AND .*"), EasyMock
+						.eq(1))).andReturn(new RemoteIssue[0]);
+		String byPriority = JQL + " ORDER BY priority DESC";
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", byPriority, 100))
+				.andReturn(new RemoteIssue[0]).times(2);
+		replay(jiraStub);
+
+		IssueStore store = new IssueStore(file);
+		SystemStreamLog log = new SystemStreamLog();
+		IssueSync.search(jiraStub, "TOKEN", store, ordered, 100, log);
+		RemoteIssue[] issues = IssueSync.search(jiraStub, "TOKEN", store,
+				ordered, 100, log);
+		assertEquals("KEY-1", issues[0].getKey());
+		assertEquals("KEY-2", issues[1].getKey());
+		IssueSync.search(jiraStub, "TOKEN", store, byPriority, 100, log);
+		IssueSync.search(jiraStub, "TOKEN", store, byPriority, 100, log);
+		verify(jiraStub);
+		assertNull(IssueSync.orderOf(JQL + " ORDER BY key"));
+	}
+
+	@Test
+	public void testOnlyUpdatedIssuesDownloaded() throws Exception {
+		long now = System.currentTimeMillis();
+		JiraSoapService jiraStub = EasyMock
+				.createStrictMock(JiraSoapService.class);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", JQL, 100)).andReturn(
+				new RemoteIssue[]{issue("KEY-1", "First", now),
+						issue("KEY-2", "Second", now),
+						issue("KEY-3", "Third", now)});
+		expect(
+				jiraStub.getIssuesFromJqlSearch(EasyMock.eq("TOKEN"), EasyMock
+						.matches("\\(" + JQL + "\\) AND updated >= \".*\""),
+						EasyMock.eq(100))).andReturn(
+				new RemoteIssue[]{issue("KEY-1", "First, renamed", now + 1)});
+		expect(
+				jiraStub.getIssuesFromJqlSearch(EasyMock.eq("TOKEN"), EasyMock
+						.matches("issuekey in \\(KEY-2, KEY-3\\) AND .*"),
+						EasyMock.eq(2))).andReturn(
+				new RemoteIssue[]{issue("KEY-3", "Moved", now + 1)});
+		replay(jiraStub);
+
+		IssueStore store = new IssueStore(file);
+		SystemStreamLog log = new SystemStreamLog();
+		assertEquals(3, IssueSync.search(jiraStub, "TOKEN", store, JQL, 100,
+				log).length);
+		RemoteIssue[] issues = IssueSync.search(jiraStub, "TOKEN", store,
+				JQL, 100, log);
+		verify(jiraStub);
+		assertEquals(2, issues.length);
+		assertEquals("First, renamed", issues[0].getSummary());
+		assertEquals("Second", issues[1].getSummary());
+	}
+
+	@Test
+	public void testTruncatedSearchNotKept() throws Exception {
+		long now = System.currentTimeMillis();
+		JiraSoapService jiraStub = EasyMock
+				.createStrictMock(JiraSoapService.class);
+		RemoteIssue[] two = new RemoteIssue[]{issue("KEY-1", "First", now),
+				issue("KEY-2", "Second", now)};
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", JQL, 2)).andReturn(
+				two).times(2);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", JQL, 3)).andReturn(
+				two);
+		expect(
+				jiraStub.getIssuesFromJqlSearch(EasyMock.eq("TOKEN"), EasyMock
+						.matches("\\(" + JQL + "\\) AND updated >= \".*\""),
+						EasyMock.eq(3))).andReturn(
+				new RemoteIssue[]{issue("KEY-3", "Third", now + 1)});
+		expect(
+				jiraStub.getIssuesFromJqlSearch(EasyMock.eq("TOKEN"), EasyMock
+						.matches("issuekey in \\(KEY-1, KEY-2\\) AND .*"),
+						EasyMock.eq(2))).andReturn(new RemoteIssue[0]);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", JQL, 3)).andReturn(
+				new RemoteIssue[]{issue("KEY-1", "First", now),
+						issue("KEY-2", "Second", now),
+						issue("KEY-3", "Third", now + 1)});
+		replay(jiraStub);
+
+		IssueStore store = new IssueStore(file);
+		SystemStreamLog log = new SystemStreamLog();
+		IssueSync.search(jiraStub, "TOKEN", store, JQL, 2, log);
+		IssueSync.search(jiraStub, "TOKEN", store, JQL, 2, log);
+		IssueSync.search(jiraStub, "TOKEN", store, JQL, 3, log);
+		assertEquals(3, IssueSync.search(jiraStub, "TOKEN", store, JQL, 3,
+				log).length);
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testConditionAddedBeforeOrdering() {
+		assertEquals("(project = KEY) AND updated >= \"2012/01/01 00:00\""
+				+ " ORDER BY key", IssueSync.restrict("project = KEY ORDER BY key",
+				"updated >= \"2012/01/01 00:00\""));
+	}
+}
@@ -0,0 +1,91 @@
+package com.george.plugins.jira;
+
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.RemoteComponent;
+import com.atlassian.jira.rpc.soap.client.RemoteCustomFieldValue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the compiled issue template
+ *
+ */
+public class IssueTemplateTest {
+
+	private static final IssueConstants CONSTANTS = new IssueConstants(
+			new RemoteIssueType[]{new RemoteIssueType("1", "Bug", null, null,
+					false)}, null, null, null);
+
+	private static RemoteIssue issue() {
+		RemoteIssue issue = new RemoteIssue();
+		issue.setKey("KEY-1");
+		issue.setSummary("It's broken");
+		issue.setType("1");
+		issue.setAssignee("jdoe");
+		issue.setComponents(new RemoteComponent[]{
+				new RemoteComponent("1", "Core"),
+				new RemoteComponent("2", "UI")});
+		issue.setFixVersions(new RemoteVersion[]{new RemoteVersion("3", "1.0",
+				false, null, false, null)});
+		issue.setCreated(new GregorianCalendar(2011, Calendar.MARCH, 7));
+		issue.setCustomFieldValues(new RemoteCustomFieldValue[]{
+				new RemoteCustomFieldValue("customfield_10010", null,
+						new String[]{"Team A", "Team B"})});
+		return issue;
+	}
+
+	private static String render(String template, IssueConstants constants) {
+		StringBuilder out = new StringBuilder();
+		IssueTemplate.compile(template).render(issue(), constants, out);
+		return out.toString();
+	}
+
+	@Test
+	public void testNamedFields() {
+		assertEquals(
+				"KEY-1 Bug jdoe [Core, UI] 1.0 2011-03-07 Team A, Team B ",
+				render("{key} {type} {assignee} [{components}] {fixVersions}"
+						+ " {created} {customfield_10010} {reporter}",
+						CONSTANTS));
+		assertTrue(IssueTemplate.compile("{key} {status}").usesConstantNames());
+		assertFalse(IssueTemplate.compile("{key} {assignee}")
+				.usesConstantNames());
+	}
+
+	@Test
+	public void testMessageFormatTemplatesUnchanged() {
+		String[] templates = {"[{0}] {1}", "'{'{0}'}' {1} ''{2}''",
+				"{0}: {1} ({2}) {5}", "{0} {3,choice,0#none|1#one}"};
+		RemoteIssue issue = issue();
+		for (String template : templates) {
+			assertEquals(format(template, issue.getKey(), issue.getSummary(),
+					"Bug", null, null, null), render(template, CONSTANTS));
+		}
+	}
+
+	@Test
+	public void testFormatTypeAndStyle() {
+		RemoteIssue issue = issue();
+		assertEquals(format("{0,date,long}", issue.getCreated().getTime())
+				+ " " + format("{0,number,#.00}", 1L) + " KEY-1",
+				render("{created,date,long} {type,number,#.00} {0,number}",
+						null));
+		assertEquals("one", render("{2,choice,0#none|1#one|1<{2}}", null));
+		assertEquals(" null", render("{updated,date} {5,number}", null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownField() {
+		IssueTemplate.compile("{key} {votes}");
+	}
+}
@@ -0,0 +1,86 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteComment;
+import com.atlassian.jira.rpc.soap.client.RemotePermissionException;
+import com.atlassian.jira.rpc.soap.client.RemoteStatus;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the asynchronous JIRA facade
+ *
+ */
+public class JiraClientTest {
+
+	private static final RemoteVersion[] VERSIONS = new RemoteVersion[]{new RemoteVersion(
+			"1", "1.0", false, null, false, null)};
+	private static final RemoteStatus[] STATUSES = new RemoteStatus[]{new RemoteStatus(
+			"Resolved", "5", "resolved.png", "Resolved")};
+
+	private JiraSoapService jiraStub;
+	private JiraClient client;
+
+	@Before
+	public void setUp() {
+		jiraStub = EasyMock.createMock(JiraSoapService.class);
+		client = new JiraClient(jiraStub, "TOKEN",
+				JiraExecutors.forParallelism(2));
+	}
+
+	@Test
+	public void testIndependentCalls() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(VERSIONS);
+		expect(jiraStub.getStatuses("TOKEN")).andReturn(STATUSES);
+		replay(jiraStub);
+
+		Future<RemoteVersion[]> versions = client.getVersions("KEY");
+		Future<RemoteStatus[]> statuses = client.getStatuses();
+		assertSame(VERSIONS, JiraClient.await(versions));
+		assertSame(STATUSES, JiraClient.await(statuses));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testCommentsInIssueOrder() throws Exception {
+		RemoteComment[] first = new RemoteComment[]{new RemoteComment()};
+		RemoteComment[] second = new RemoteComment[0];
+		expect(jiraStub.getComments("TOKEN", "KEY-1")).andReturn(first);
+		expect(jiraStub.getComments("TOKEN", "KEY-2")).andReturn(second);
+		replay(jiraStub);
+
+		List<RemoteComment[]> comments = client.getComments("KEY-1", "KEY-2");
+		assertEquals(2, comments.size());
+		assertSame(first, comments.get(0));
+		assertSame(second, comments.get(1));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testFailureRethrownAsIs() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(
+				new RemotePermissionException());
+		replay(jiraStub);
+
+		try {
+			JiraClient.await(client.getVersions("KEY"));
+			fail("Permission error expected");
+		} catch (RemotePermissionException e) {
+			// Expected
+		}
+		verify(jiraStub);
+	}
+}
@@ -0,0 +1,74 @@
+package com.george.plugins.jira;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+
+import javax.xml.rpc.ServiceException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+
+/**
+ * JUnit test case for the shared stub registry
+ *
+ */
+public class JiraServiceRegistryTest {
+
+	private JiraTransport transport;
+
+	@Before
+	public void setUp() throws Exception {
+		transport = JiraTransport.valueOf(null, 0, 0);
+	}
+
+	@Test
+	public void testSameStubForSameEndpoint() throws Exception {
+		JiraSoapService first = JiraServiceRegistry.getService(new URL(
+				"http://jira.george.com" + AbstractJiraMojo.JIRA_SOAP_SUFFIX),
+				transport);
+		JiraSoapService second = JiraServiceRegistry.getService(new URL(
+				"http://jira.george.com" + AbstractJiraMojo.JIRA_SOAP_SUFFIX),
+				transport);
+		assertSame(first, second);
+	}
+
+	@Test
+	public void testStubPerEndpoint() throws Exception {
+		JiraSoapService first = JiraServiceRegistry.getService(new URL(
+				"http://jira.george.com" + AbstractJiraMojo.JIRA_SOAP_SUFFIX),
+				transport);
+		JiraSoapService second = JiraServiceRegistry.getService(new URL(
+				"http://www.trt12.jus.br/jira"
+						+ AbstractJiraMojo.JIRA_SOAP_SUFFIX),
+				transport);
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void testStubPerTransport() throws Exception {
+		JiraSoapService first = JiraServiceRegistry.getService(new URL(
+				"http://jira.george.com" + AbstractJiraMojo.JIRA_SOAP_SUFFIX),
+				transport);
+		JiraSoapService second = JiraServiceRegistry.getService(new URL(
+				"http://jira.george.com" + AbstractJiraMojo.JIRA_SOAP_SUFFIX),
+				JiraTransport.valueOf(JiraTransport.POOLED, 2, 10));
+		assertNotSame(first, second);
+	}
+
+	@Test
+	public void testEngineConfigurationBuiltOnce() throws Exception {
+		assertSame(transport.getEngineConfiguration(), JiraTransport
+				.valueOf(null, 0, 0).getEngineConfiguration());
+		assertNotSame(transport.getEngineConfiguration(), JiraTransport
+				.valueOf(JiraTransport.POOLED, 2, 10).getEngineConfiguration());
+	}
+
+	@Test(expected = ServiceException.class)
+	public void testUnknownTransport() throws Exception {
+		JiraTransport.valueOf("carrier-pigeon", 2, 10);
+	}
+}
@@ -0,0 +1,177 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenSession;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sonatype.aether.RepositorySystemSession;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteAuthenticationException;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the build-wide JIRA session sharing
+ *
+ */
+public class JiraSessionManagerTest {
+
+	private static final String URL = "http://jira.george.com"
+			+ AbstractJiraMojo.JIRA_SOAP_SUFFIX;
+	private static final RemoteVersion[] VERSIONS = new RemoteVersion[]{new RemoteVersion(
+			"1", "1.0", false, null, false, null)};
+
+	private JiraSessionManager manager;
+	private JiraSoapService jiraStub;
+	private File tokenFile;
+
+	@Before
+	public void setUp() throws Exception {
+		manager = new JiraSessionManager();
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+		tokenFile = File.createTempFile("jira-token", ".bin");
+		tokenFile.delete();
+	}
+
+	@After
+	public void tearDown() {
+		tokenFile.delete();
+	}
+
+	private LoginTokenCache tokenCache(String password) {
+		return new LoginTokenCache(tokenFile, URL, "user", password);
+	}
+
+	@Test
+	public void testLoginOncePerUser() throws Exception {
+		expect(jiraStub.login("user", "password")).andReturn("TOKEN").once();
+		replay(jiraStub);
+
+		JiraSession first = manager.getSession(URL, jiraStub, "user",
+				"password", null);
+		JiraSession second = manager.getSession(URL, jiraStub, "user",
+				"password", null);
+		assertSame(first, second);
+		assertEquals("TOKEN", first.getToken());
+		assertEquals("TOKEN", second.getToken());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testReloginOnExpiredToken() throws Exception {
+		expect(jiraStub.login("user", "password")).andReturn("OLD").once();
+		expect(jiraStub.getVersions("OLD", "KEY")).andThrow(
+				new RemoteAuthenticationException());
+		expect(jiraStub.login("user", "password")).andReturn("NEW").once();
+		expect(jiraStub.getVersions("NEW", "KEY")).andReturn(VERSIONS);
+		replay(jiraStub);
+
+		JiraSession session = manager.getSession(URL, jiraStub, "user",
+				"password", null);
+		RemoteVersion[] actual = session.getService().getVersions(
+				session.getToken(), "KEY");
+		assertArrayEquals(VERSIONS, actual);
+		assertEquals("NEW", session.getToken());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testLogoutOnceOnClose() throws Exception {
+		expect(jiraStub.login("user", "password")).andReturn("TOKEN").once();
+		expect(jiraStub.logout("TOKEN")).andReturn(Boolean.TRUE).once();
+		replay(jiraStub);
+
+		manager.getSession(URL, jiraStub, "user", "password", null)
+				.getToken();
+		manager.close(null);
+		manager.close(null);
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testKeptTokenReusedByNextBuild() throws Exception {
+		expect(jiraStub.login("user", "password")).andReturn("TOKEN").once();
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(VERSIONS);
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(
+				new RemoteAuthenticationException());
+		expect(jiraStub.login("user", "password")).andReturn("NEW").once();
+		expect(jiraStub.getVersions("NEW", "KEY")).andReturn(VERSIONS);
+		replay(jiraStub);
+
+		JiraSession first = manager.getSession(URL, jiraStub, "user",
+				"password", tokenCache("password"));
+		first.getService().getVersions(first.getToken(), "KEY");
+		manager.close(null);
+
+		JiraSession next = new JiraSessionManager().getSession(URL, jiraStub,
+				"user", "password", tokenCache("password"));
+		assertEquals("TOKEN", next.getToken());
+		next.getService().getVersions(next.getToken(), "KEY");
+		assertEquals("NEW", tokenCache("password").load());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testKeptTokenNeedsSameCredentials() throws Exception {
+		tokenCache("password").save("TOKEN");
+		assertEquals("TOKEN", tokenCache("password").load());
+		assertNull(tokenCache("other").load());
+		assertNull(new LoginTokenCache(tokenFile, URL, "user", null).load());
+	}
+
+	@Test
+	public void testSessionsClosedAtSessionEnd() throws Exception {
+		ExecutionListener listener = EasyMock
+				.createStrictMock(ExecutionListener.class);
+		ExecutionEvent event = EasyMock.createMock(ExecutionEvent.class);
+		listener.projectSucceeded(event);
+		listener.sessionEnded(event);
+		expect(jiraStub.login("user", "password")).andReturn("TOKEN").once();
+		expect(jiraStub.logout("TOKEN")).andReturn(Boolean.TRUE).once();
+		replay(jiraStub, listener, event);
+
+		DefaultMavenExecutionRequest request = new DefaultMavenExecutionRequest();
+		request.setExecutionListener(listener);
+		MavenSession session = new MavenSession(null,
+				(RepositorySystemSession) null, request,
+				new DefaultMavenExecutionResult());
+		JiraSessionManager build = JiraSessionManager.forBuild(session, null);
+		assertSame(build, JiraSessionManager.forBuild(session, null));
+		build.getSession(URL, jiraStub, "user", "password", null).getToken();
+
+		request.getExecutionListener().projectSucceeded(event);
+		request.getExecutionListener().sessionEnded(event);
+		verify(jiraStub, listener, event);
+	}
+
+	@Test
+	public void testSessionsClosedAtSessionEndWithoutListener()
+			throws Exception {
+		expect(jiraStub.login("user", "password")).andReturn("TOKEN").once();
+		expect(jiraStub.logout("TOKEN")).andReturn(Boolean.TRUE).once();
+		replay(jiraStub);
+
+		manager.getSession(URL, jiraStub, "user", "password", null)
+				.getToken();
+		ExecutionListener listener = JiraSessionManager.closeOnSessionEnd(
+				null, manager, null);
+		listener.projectStarted(null);
+		listener.sessionEnded(null);
+		verify(jiraStub);
+	}
+}
@@ -0,0 +1,204 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.rmi.RemoteException;
+
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the offline JIRA snapshot
+ *
+ */
+public class JiraSnapshotDecoratorTest {
+
+	private static final String JQL = "project = KEY AND fixVersion = \"1.0\"";
+
+	private File file;
+	private JiraSoapService jiraStub;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("jira-snapshot", ".bin");
+		file.delete();
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private static RemoteIssue[] issues() {
+		StringBuilder description = new StringBuilder();
+		for (int i = 0; i < 30000; i++) {
+			description.append('\u00e9');
+		}
+		RemoteIssue issue = new RemoteIssue();
+		issue.setId("10000");
+		issue.setKey("KEY-1");
+		issue.setSummary("First issue");
+		issue.setDescription(description.toString());
+		issue.setType("1");
+		issue.setFixVersions(new RemoteVersion[]{new RemoteVersion("1",
+				"1.0", false, null, false, null)});
+		return new RemoteIssue[]{issue};
+	}
+
+	@Test
+	public void testRecordedReadsServedOffline() throws Exception {
+		RemoteVersion[] versions = {new RemoteVersion("1", "1.0", false,
+				null, false, null)};
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", JQL, 100)).andReturn(
+				issues());
+		replay(jiraStub);
+
+		MetadataCache snapshot = new MetadataCache(file);
+		JiraSoapService recording = JiraSnapshotDecorator.recording(jiraStub,
+				snapshot);
+		recording.getVersions("TOKEN", "KEY");
+		recording.getIssuesFromJqlSearch("TOKEN", JQL, 100);
+		verify(jiraStub);
+		assertFalse("Written once, at the end", file.exists());
+		snapshot.flush();
+
+		JiraSoapService offline = JiraSnapshotDecorator
+				.offline(new MetadataCache(file));
+		assertEquals(versions[0], offline.getVersions(
+				JiraSnapshotDecorator.OFFLINE_TOKEN, "KEY")[0]);
+		RemoteIssue issue = offline.getIssuesFromJqlSearch(
+				JiraSnapshotDecorator.OFFLINE_TOKEN, JQL, 100)[0];
+		assertEquals(issues()[0].getDescription(), issue.getDescription());
+		assertEquals("1.0", issue.getFixVersions()[0].getName());
+		assertNull(issue.getComponents());
+	}
+
+	private AbstractJiraMojo mojo(File directory, String user) {
+		CreateNewVersionMojo mojo = new CreateNewVersionMojo();
+		mojo.setJiraURL("http://snapshot.george.com"
+				+ AbstractJiraMojo.JIRA_SOAP_SUFFIX);
+		mojo.setJiraUser(user);
+		mojo.memoryCache = true;
+		mojo.snapshot = true;
+		mojo.metadataCacheDirectory = directory;
+		return mojo;
+	}
+
+	@Test
+	public void testCacheHitsRecorded() throws Exception {
+		RemoteVersion[] versions = {new RemoteVersion("1", "1.0", false,
+				null, false, null)};
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions)
+				.once();
+		replay(jiraStub);
+
+		// The memory cache is kept by the JVM, a new user starts it empty
+		String user = file.getName();
+		File first = new File(file.getPath() + ".first");
+		File second = new File(file.getPath() + ".second");
+		AbstractJiraMojo mojo = mojo(first, user);
+		AbstractJiraMojo next = mojo(second, user);
+		try {
+			mojo.decorate(jiraStub).getVersions("TOKEN", "KEY");
+			next.decorate(jiraStub).getVersions("TOKEN", "KEY");
+			verify(jiraStub);
+
+			JiraSoapService offline = JiraSnapshotDecorator.offline(next
+					.getSnapshot());
+			assertEquals(versions[0], offline.getVersions(
+					JiraSnapshotDecorator.OFFLINE_TOKEN, "KEY")[0]);
+		} finally {
+			delete(mojo);
+			delete(next);
+		}
+	}
+
+	private static void delete(AbstractJiraMojo mojo) throws Exception {
+		// Written, so the JVM no longer keeps it
+		mojo.getSnapshot().flush();
+		File directory = mojo.getMetadataCacheDirectory();
+		File[] files = directory.listFiles();
+		if (files != null) {
+			for (File written : files) {
+				written.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	@Test
+	public void testSearchRecordedUnderOriginalQuery() throws Exception {
+		expect(
+				jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+						+ ") AND updated >= \"2012/01/01 00:00\"", 100))
+				.andReturn(issues());
+		replay(jiraStub);
+
+		MetadataCache snapshot = new MetadataCache(file);
+		JiraSoapService recording = JiraSnapshotDecorator.recording(jiraStub,
+				snapshot);
+		JiraSnapshotDecorator.pauseRecording();
+		try {
+			recording.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+					+ ") AND updated >= \"2012/01/01 00:00\"", 100);
+		} finally {
+			JiraSnapshotDecorator.resumeRecording();
+		}
+		JiraSnapshotDecorator.recordSearch(snapshot, JQL, 100, issues());
+		snapshot.flush();
+		verify(jiraStub);
+
+		JiraSoapService offline = JiraSnapshotDecorator
+				.offline(new MetadataCache(file));
+		assertEquals("KEY-1", offline.getIssuesFromJqlSearch(
+				JiraSnapshotDecorator.OFFLINE_TOKEN, JQL, 100)[0].getKey());
+		try {
+			offline.getIssuesFromJqlSearch(JiraSnapshotDecorator.OFFLINE_TOKEN,
+					"(" + JQL + ") AND updated >= \"2012/01/01 00:00\"", 100);
+			fail("Searches of the synchronization are not recorded");
+		} catch (RemoteException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testMissingReadFailsOffline() throws Exception {
+		JiraSoapService offline = JiraSnapshotDecorator
+				.offline(new MetadataCache(file));
+		try {
+			offline.getVersions(JiraSnapshotDecorator.OFFLINE_TOKEN, "KEY");
+			fail("Versions were never recorded");
+		} catch (RemoteException e) {
+			// Expected
+		}
+	}
+
+	@Test
+	public void testUpdatesRejectedOffline() throws Exception {
+		JiraSoapService offline = JiraSnapshotDecorator
+				.offline(new MetadataCache(file));
+		try {
+			offline.releaseVersion(JiraSnapshotDecorator.OFFLINE_TOKEN, "KEY",
+					new RemoteVersion());
+			fail("JIRA cannot be updated offline");
+		} catch (RemoteException e) {
+			assertEquals("JIRA is offline, releaseVersion was not sent", e
+					.getMessage());
+		}
+	}
+}
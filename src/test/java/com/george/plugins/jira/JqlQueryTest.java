@@ -0,0 +1,94 @@
+package com.george.plugins.jira;
+
+import static java.text.MessageFormat.format;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemoteStatus;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the JQL answered locally
+ *
+ */
+public class JqlQueryTest {
+
+	private static final IssueConstants CONSTANTS = new IssueConstants(
+			new RemoteIssueType[]{
+					new RemoteIssueType("1", "Bug", null, null, false),
+					new RemoteIssueType("4", "Improvement", null, null, false)},
+			new RemoteStatus[]{new RemoteStatus("1", "Open", null, null),
+					new RemoteStatus("5", "Resolved", null, null),
+					new RemoteStatus("6", "Closed", null, null)}, null, null);
+
+	private static RemoteIssue issue(String key, String type, String status,
+			String... fixVersions) {
+		RemoteIssue issue = new RemoteIssue();
+		issue.setKey(key);
+		issue.setProject("KEY");
+		issue.setType(type);
+		issue.setStatus(status);
+		RemoteVersion[] versions = new RemoteVersion[fixVersions.length];
+		for (int i = 0; i < versions.length; i++) {
+			versions[i] = new RemoteVersion(String.valueOf(10000 + i),
+					fixVersions[i], false, null, false, null);
+		}
+		issue.setFixVersions(versions);
+		return issue;
+	}
+
+	@Test
+	public void testDefaultTemplateSupported() {
+		JqlQuery query = JqlQuery.parse(format(
+				new GenerateReleaseNotesMojo().jqlTemplate, "KEY", "1.0"));
+		assertNotNull(query);
+		assertEquals(3, query.getClauses().size());
+		assertEquals("key", query.getProject());
+	}
+
+	@Test
+	public void testOtherQueriesLeftToJira() {
+		assertNull(JqlQuery.parse("project = KEY OR project = OTHER"));
+		assertNull(JqlQuery.parse("project = KEY ORDER BY key"));
+		assertNull(JqlQuery.parse("project = KEY AND assignee = currentUser()"));
+		assertNull(JqlQuery.parse("project = KEY AND status != Closed"));
+		assertNull(JqlQuery.parse("project = KEY AND fixVersion in releasedVersions()"));
+		assertNull(JqlQuery.parse("project = 'KEY"));
+		assertNull(JqlQuery.parse("project = KEY AND"));
+		assertNull(JqlQuery.parse(""));
+		assertNull(JqlQuery.parse("status = Closed").getProject());
+		assertNull(JqlQuery.parse("project in (KEY, OTHER)").getProject());
+	}
+
+	@Test
+	public void testConditionsIntersected() {
+		LocalIssueIndex index = new LocalIssueIndex(new RemoteIssue[]{
+				issue("KEY-1", "1", "6", "1.0"),
+				issue("KEY-2", "4", "1", "1.0"),
+				issue("KEY-3", "4", "5", "1.0", "1.1"),
+				issue("KEY-4", "1", "5", "1.1"), issue("KEY-5", "1", "5")},
+				CONSTANTS);
+
+		RemoteIssue[] found = index.search(JqlQuery
+				.parse("project = 'KEY' AND status in (Resolved, closed) AND fixVersion = '1.0'"),
+				2);
+		assertEquals(2, found.length);
+		assertEquals("KEY-1", found[0].getKey());
+		assertEquals("KEY-3", found[1].getKey());
+
+		found = index.search(JqlQuery
+				.parse("project = KEY AND issuetype = Bug AND status = 5"), 100);
+		assertEquals(2, found.length);
+		assertEquals("KEY-4", found[0].getKey());
+
+		assertEquals(0, index.search(JqlQuery
+				.parse("project = KEY AND fixVersion = \"2.0\""), 100).length);
+		assertNull(index.search(JqlQuery.parse("project = KEY AND status = 5"),
+				2));
+	}
+}
@@ -0,0 +1,89 @@
+package com.george.plugins.jira;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * JUnit test case for the registries kept by the Maven process
+ *
+ */
+public class JvmCacheTest {
+
+	@After
+	public void tearDown() {
+		JvmCache.configure(30 * 60 * 1000L, 64 * 1024 * 1024L);
+	}
+
+	private static JvmCache<String, String> weighed() {
+		return new JvmCache<String, String>() {
+			@Override
+			protected long weigh(String value) {
+				return value.length();
+			}
+		};
+	}
+
+	@Test
+	public void testIdleValuesDropped() throws Exception {
+		JvmCache<String, String> cache = weighed();
+		JvmCache<String, String> pinned = new JvmCache<String, String>() {
+			@Override
+			protected boolean expire(String value, long idleMillis) {
+				return false;
+			}
+		};
+		assertNull(cache.putIfAbsent("a", "value"));
+		assertEquals("value", cache.putIfAbsent("a", "other"));
+		pinned.put("a", "value");
+
+		JvmCache.configure(1, 0);
+		Thread.sleep(10);
+		JvmCache.sweep();
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+		assertSame("value", pinned.get("a"));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedDroppedBeyondCeiling() throws Exception {
+		JvmCache<String, String> cache = weighed();
+		cache.put("old", "0123456789");
+		Thread.sleep(10);
+		cache.put("new", "0123456789");
+
+		JvmCache.configure(0, 15);
+		JvmCache.sweep();
+		assertNull(cache.get("old"));
+		assertEquals("0123456789", cache.get("new"));
+	}
+
+	@Test
+	public void testMetadataCacheKeptWhileDirtyAndReadAgain()
+			throws Exception {
+		File file = File.createTempFile("jira-metadata", ".bin");
+		file.delete();
+		try {
+			MetadataCache cache = MetadataCache.forFile(file);
+			cache.record("recorded", new byte[]{1});
+			JvmCache.configure(1, 0);
+			Thread.sleep(10);
+			JvmCache.sweep();
+			assertSame(cache, MetadataCache.forFile(file));
+
+			MetadataCache other = new MetadataCache(file.getAbsoluteFile());
+			other.put("other", new byte[]{2});
+			cache.flush();
+			assertEquals(2, new MetadataCache(file).get("other",
+					Long.MAX_VALUE)[0]);
+			assertEquals(1, other.get("recorded", Long.MAX_VALUE)[0]);
+		} finally {
+			file.delete();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteField;
+import com.atlassian.jira.rpc.soap.client.RemoteProject;
+import com.atlassian.jira.rpc.soap.client.RemoteScheme;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the in-memory JIRA cache
+ *
+ */
+public class MemoryCacheDecoratorTest {
+
+	private static final long TTL = 60000;
+
+	private JiraSoapService jiraStub;
+
+	@Before
+	public void setUp() {
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+	}
+
+	private static RemoteVersion[] versions() {
+		return new RemoteVersion[]{new RemoteVersion("1", "1.0", false, null,
+				false, null)};
+	}
+
+	private JiraSoapService decorate(MemoryCache cache) {
+		return new MemoryCacheDecorator(jiraStub, cache, TTL, TTL).decorate();
+	}
+
+	@Test
+	public void testReadsServedFromMemory() throws Exception {
+		RemoteProject project = new RemoteProject();
+		project.setKey("KEY");
+		project.setNotificationScheme(new RemoteScheme("Default", Long
+				.valueOf(1), "Notifications", "notification"));
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions())
+				.once();
+		expect(jiraStub.getProjectByKey("TOKEN", "KEY")).andReturn(project)
+				.once();
+		expect(jiraStub.getCustomFields("TOKEN")).andReturn(
+				new RemoteField[]{new RemoteField("customfield_1", "Team")})
+				.once();
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new MemoryCache(16));
+		RemoteVersion[] first = service.getVersions("TOKEN", "KEY");
+		RemoteVersion[] second = service.getVersions("OTHER_TOKEN", "KEY");
+		assertEquals(first[0], second[0]);
+		assertNotSame(first[0], second[0]);
+		service.getProjectByKey("TOKEN", "KEY");
+		RemoteProject cached = service.getProjectByKey("TOKEN", "KEY");
+		assertEquals(project, cached);
+		assertNotSame(project.getNotificationScheme(), cached
+				.getNotificationScheme());
+		service.getCustomFields("TOKEN");
+		assertEquals("Team", service.getCustomFields("TOKEN")[0].getName());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testVersionsEvictedByRelease() throws Exception {
+		RemoteVersion version = versions()[0];
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions());
+		jiraStub.releaseVersion("TOKEN", "KEY", version);
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions());
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new MemoryCache(16));
+		service.getVersions("TOKEN", "KEY");
+		service.releaseVersion("TOKEN", "KEY", version);
+		service.getVersions("TOKEN", "KEY");
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEvicted() throws Exception {
+		MemoryCache cache = new MemoryCache(16);
+		for (int i = 0; i < 100; i++) {
+			cache.put("getVersions KEY" + i, versions());
+		}
+		assertEquals(16, cache.size());
+		assertNull(cache.get("getVersions KEY0", TTL));
+		assertEquals("1.0", ((RemoteVersion[]) cache.get(
+				"getVersions KEY99", TTL))[0].getName());
+	}
+
+	@Test
+	public void testExpiredEntryRefetched() throws Exception {
+		MemoryCache cache = new MemoryCache(16);
+		cache.put("getVersions KEY", versions());
+		assertNull(cache.get("getVersions KEY", 0));
+		assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,134 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+import com.atlassian.jira.rpc.soap.client.RemotePriority;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the on-disk JIRA metadata cache
+ *
+ */
+public class MetadataCacheDecoratorTest {
+
+	private static final long TTL = 60000;
+
+	private File file;
+	private JiraSoapService jiraStub;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("jira-metadata", ".bin");
+		file.delete();
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private static RemoteVersion[] versions() {
+		Calendar releaseDate = Calendar.getInstance(TimeZone
+				.getTimeZone("America/Sao_Paulo"));
+		releaseDate.setTimeInMillis(1300000000000L);
+		return new RemoteVersion[]{
+				new RemoteVersion("1", "1.0", false, releaseDate, true,
+						Long.valueOf(1)),
+				new RemoteVersion("2", "1.1", false, null, false, null)};
+	}
+
+	private JiraSoapService decorate(MetadataCache cache) {
+		return new MetadataCacheDecorator(jiraStub, cache, TTL, TTL)
+				.decorate();
+	}
+
+	@Test
+	public void testVersionsFetchedOnce() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions())
+				.once();
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new MetadataCache(file));
+		RemoteVersion[] first = service.getVersions("TOKEN", "KEY");
+		RemoteVersion[] second = service.getVersions("TOKEN", "KEY");
+		assertEquals(2, second.length);
+		assertEquals(first[0], second[0]);
+		assertNotSame(first[0], second[0]);
+		assertEquals(versions()[0].getReleaseDate().getTimeInMillis(),
+				second[0].getReleaseDate().getTimeInMillis());
+		assertNull(second[1].getReleaseDate());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testCacheSurvivesBuilds() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions())
+				.once();
+		replay(jiraStub);
+
+		decorate(new MetadataCache(file)).getVersions("TOKEN", "KEY");
+		RemoteVersion[] cached = decorate(new MetadataCache(file))
+				.getVersions("TOKEN", "KEY");
+		assertEquals("1.1", cached[1].getName());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testReleaseInvalidatesVersions() throws Exception {
+		RemoteVersion[] versions = versions();
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions);
+		jiraStub.releaseVersion("TOKEN", "KEY", versions[1]);
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(versions);
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new MetadataCache(file));
+		service.getVersions("TOKEN", "KEY");
+		service.releaseVersion("TOKEN", "KEY", versions[1]);
+		service.getVersions("TOKEN", "KEY");
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testConstantsCached() throws Exception {
+		RemoteIssueType[] issueTypes = new RemoteIssueType[]{new RemoteIssueType(
+				"1", "Bug", "A problem", "bug.png", false)};
+		RemotePriority[] priorities = new RemotePriority[]{new RemotePriority(
+				"1", "Blocker", null, "blocker.png", "#cc0000")};
+		expect(jiraStub.getIssueTypes("TOKEN")).andReturn(issueTypes).once();
+		expect(jiraStub.getPriorities("TOKEN")).andReturn(priorities).once();
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new MetadataCache(file));
+		service.getIssueTypes("TOKEN");
+		service.getPriorities("TOKEN");
+		assertEquals(issueTypes[0], service.getIssueTypes("TOKEN")[0]);
+		assertEquals(priorities[0], service.getPriorities("TOKEN")[0]);
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testUnreadableFileIgnored() throws Exception {
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(new byte[]{1, 2, 3});
+		out.close();
+		assertNull(new MetadataCache(file).get("getVersions KEY", TTL));
+	}
+}
@@ -0,0 +1,114 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteException;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the lookups known to find nothing
+ *
+ */
+public class NegativeCacheDecoratorTest {
+
+	private static final long TTL = 60000;
+
+	private JiraSoapService jiraStub;
+
+	@Before
+	public void setUp() {
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+	}
+
+	private JiraSoapService decorate(NegativeCache cache) {
+		return new NegativeCacheDecorator(jiraStub, cache).decorate();
+	}
+
+	@Test
+	public void testMissingProjectLookedUpOnce() throws Exception {
+		expect(jiraStub.getProjectByKey("TOKEN", "NOPE")).andReturn(null);
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new NegativeCache(TTL));
+		assertNull(service.getProjectByKey("TOKEN", "NOPE"));
+		try {
+			service.getVersions("TOKEN", "NOPE");
+			fail("Miss expected");
+		} catch (NegativeCache.Miss e) {
+			// answered locally
+		}
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testFailuresNotRecorded() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(
+				new RemoteException()).times(2);
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(new NegativeCache(TTL));
+		for (int i = 0; i < 2; i++) {
+			try {
+				service.getVersions("TOKEN", "KEY");
+				fail("RemoteException expected");
+			} catch (NegativeCache.Miss e) {
+				fail("Permission or server errors are sent again");
+			} catch (RemoteException e) {
+				// JIRA failure
+			}
+		}
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testSearchesSentAndAddedVersion() throws Exception {
+		RemoteVersion version = new RemoteVersion(null, "2.0", false, null,
+				false, null);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "fixVersion = 2.0",
+				100)).andReturn(new RemoteIssue[0]).times(2);
+		expect(jiraStub.addVersion("TOKEN", "KEY", version)).andReturn(
+				version);
+		replay(jiraStub);
+
+		NegativeCache cache = new NegativeCache(TTL);
+		cache.add(NegativeCache.versionKey("KEY", "2.0"));
+		JiraSoapService service = decorate(cache);
+		service.getIssuesFromJqlSearch("TOKEN", "fixVersion = 2.0", 100);
+		assertEquals(0, service.getIssuesFromJqlSearch("TOKEN",
+				"fixVersion = 2.0", 100).length);
+		service.addVersion("TOKEN", "KEY", version);
+		assertFalse(cache.contains(NegativeCache.versionKey("KEY", "2.0")));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testKeysExpireAndSurviveGrowth() throws Exception {
+		NegativeCache cache = new NegativeCache(TTL);
+		for (int i = 0; i < 1000; i++) {
+			cache.add(NegativeCache.versionKey("KEY", "1." + i));
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(cache.contains(NegativeCache.versionKey("KEY", "1." + i)));
+		}
+		assertFalse(cache.contains(NegativeCache.versionKey("KEY", "1.1000")));
+		cache.remove(NegativeCache.versionKey("KEY", "1.10"));
+		assertFalse(cache.contains(NegativeCache.versionKey("KEY", "1.10")));
+
+		NegativeCache disabled = new NegativeCache(0);
+		disabled.add(NegativeCache.versionKey("KEY", "1.1"));
+		assertFalse(disabled.contains(NegativeCache.versionKey("KEY", "1.1")));
+	}
+}
@@ -0,0 +1,111 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteComponent;
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+import com.atlassian.jira.rpc.soap.client.RemoteIssueType;
+
+/**
+ * JUnit test case for the searches split into concurrent partitions
+ *
+ */
+public class PartitionedSearchTest {
+
+	private static final String JQL = "project = 'KEY' AND fixVersion = '1.0'";
+
+	private JiraSoapService jiraStub;
+	private JiraClient client;
+
+	@Before
+	public void setUp() {
+		// Partitions run concurrently, in no particular order
+		jiraStub = EasyMock.createMock(JiraSoapService.class);
+		client = new JiraClient(jiraStub, "TOKEN", JiraExecutors
+				.forParallelism(2));
+	}
+
+	private static RemoteIssue[] issues(String... keys) {
+		RemoteIssue[] issues = new RemoteIssue[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			issues[i] = new RemoteIssue();
+			issues[i].setKey(keys[i]);
+		}
+		return issues;
+	}
+
+	@Test
+	public void testPartitionsByTypeAndComponent() throws Exception {
+		expect(jiraStub.getIssueTypes("TOKEN")).andReturn(
+				new RemoteIssueType[]{
+						new RemoteIssueType("1", "Bug", null, null, false),
+						new RemoteIssueType("4", "Improvement", null, null,
+								false)});
+		expect(jiraStub.getComponents("TOKEN", "KEY")).andReturn(
+				new RemoteComponent[]{new RemoteComponent("10000", "Core")});
+		replay(jiraStub);
+
+		assertEquals(Arrays.asList("issuetype = 1", "issuetype = 4",
+				"issuetype not in (1, 4)"), PartitionedSearch.partitions(
+				client, JQL, PartitionedSearch.TYPE, "KEY", 0));
+		assertEquals(Arrays.asList("component = 10000",
+				"(component not in (10000) OR component is EMPTY)"),
+				PartitionedSearch.partitions(client, JQL,
+						PartitionedSearch.COMPONENT, "KEY", 0));
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testSearchedWholeWithoutComponents() throws Exception {
+		expect(jiraStub.getComponents("TOKEN", "KEY")).andReturn(
+				new RemoteComponent[0]);
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", JQL, 100)).andReturn(
+				issues("KEY-2", "KEY-1"));
+		replay(jiraStub);
+
+		List<String> partitions = PartitionedSearch.partitions(client, JQL,
+				PartitionedSearch.COMPONENT, "KEY", 0);
+		assertTrue(partitions.isEmpty());
+		RemoteIssue[] found = PartitionedSearch.search(client, jiraStub,
+				"TOKEN", JQL, partitions, 100, 0, new SystemStreamLog());
+		assertEquals(2, found.length);
+		assertEquals("KEY-1", found[0].getKey());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testResultsMergedByKey() throws Exception {
+		List<String> partitions = Arrays.asList("component = 10000",
+				"component is EMPTY");
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND component = 10000", 100)).andReturn(
+				issues("KEY-10", "KEY-2"));
+		expect(jiraStub.getIssuesFromJqlSearch("TOKEN", "(" + JQL
+				+ ") AND component is EMPTY", 100)).andReturn(
+				issues("KEY-9", "KEY-10", "KEY-1"));
+		replay(jiraStub);
+
+		RemoteIssue[] found = PartitionedSearch.search(client, jiraStub,
+				"TOKEN", JQL + " ORDER BY priority", partitions, 100, 0,
+				new SystemStreamLog());
+		assertEquals(4, found.length);
+		assertEquals("KEY-1", found[0].getKey());
+		assertEquals("KEY-2", found[1].getKey());
+		assertEquals("KEY-9", found[2].getKey());
+		assertEquals("KEY-10", found[3].getKey());
+		verify(jiraStub);
+	}
+}
@@ -0,0 +1,124 @@
+package com.george.plugins.jira;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.RemoteIssue;
+
+/**
+ * JUnit test case for the release notes written to several formats
+ *
+ */
+public class ReleaseNotesTest {
+
+	private static final String[] FORMATS = {"text", "markdown", "html",
+			"json"};
+
+	private File dir;
+
+	@Before
+	public void setUp() throws IOException {
+		dir = File.createTempFile("releaseNotes", "");
+		dir.delete();
+		dir.mkdirs();
+	}
+
+	@After
+	public void tearDown() {
+		for (File file : dir.listFiles()) {
+			file.delete();
+		}
+		dir.delete();
+	}
+
+	private static String read(File file) throws IOException {
+		FileInputStream in = new FileInputStream(file);
+		try {
+			byte[] bytes = new byte[(int) file.length()];
+			int n = 0;
+			while (n < bytes.length) {
+				n += in.read(bytes, n, bytes.length - n);
+			}
+			return new String(bytes, "UTF-8");
+		} finally {
+			in.close();
+		}
+	}
+
+	private static RemoteIssue issue(String key, String summary) {
+		RemoteIssue issue = new RemoteIssue();
+		issue.setKey(key);
+		issue.setSummary(summary);
+		return issue;
+	}
+
+	@Test
+	public void testOnePassManyFormats() throws Exception {
+		File text = new File(dir, "releaseNotes.txt");
+		List<ReleaseNotesFormat> formats = new ArrayList<ReleaseNotesFormat>();
+		for (String format : FORMATS) {
+			formats.add(ReleaseNotesFormat.open(format, ReleaseNotesFormat
+					.targetOf(format, text), Charset.forName("UTF-8"), "\n",
+					false));
+		}
+		ReleaseNotes notes = new ReleaseNotes(formats, IssueTemplate
+				.compile("[{key}] {summary}"));
+		notes.begin("1.0", "Release 1.0");
+		notes.add(new RemoteIssue[]{issue("KEY-1", "Use <b> & \"quotes\""),
+				issue("KEY-2", "Caf\u00e9 *menu*")}, null);
+		notes.end(null);
+		notes.commit();
+		notes.abort();
+
+		assertEquals(2, notes.size());
+		assertEquals("Release 1.0\n[KEY-1] Use <b> & \"quotes\"\n"
+				+ "[KEY-2] Caf\u00e9 *menu*\n", read(text));
+		assertEquals("Release 1.0\n\n- \\[KEY-1\\] Use \\<b\\> & \"quotes\"\n"
+				+ "- \\[KEY-2\\] Caf\u00e9 \\*menu\\*\n", read(new File(dir,
+				"releaseNotes.md")));
+		String html = read(new File(dir, "releaseNotes.html"));
+		assertEquals(true, html.contains("<title>1.0</title>"));
+		assertEquals(true, html
+				.contains("<li>[KEY-1] Use &lt;b&gt; &amp; &quot;quotes&quot;</li>"));
+		assertEquals("{\n  \"version\": \"1.0\",\n  \"before\": \"Release 1.0\",\n"
+				+ "  \"issues\": [\n"
+				+ "    {\"key\": \"KEY-1\", \"summary\": \"Use <b> & \\\"quotes\\\"\","
+				+ " \"line\": \"[KEY-1] Use <b> & \\\"quotes\\\"\"},\n"
+				+ "    {\"key\": \"KEY-2\", \"summary\": \"Caf\\u00e9 *menu*\","
+				+ " \"line\": \"[KEY-2] Caf\\u00e9 *menu*\"}\n  ]\n}\n",
+				read(new File(dir, "releaseNotes.json")));
+	}
+
+	@Test
+	public void testFormatsListedOnceJsonInUtf8() throws Exception {
+		assertEquals(Arrays.asList("text", "json"), ReleaseNotesFormat
+				.namesOf(" text,JSON , text,json"));
+		File json = new File(dir, "releaseNotes.json");
+		ReleaseNotes notes = new ReleaseNotes(Collections
+				.singletonList(ReleaseNotesFormat.open("json", json, Charset
+						.forName("UTF-16"), "\n", false)), IssueTemplate
+				.compile("{key}"));
+		notes.begin("1.0", null);
+		notes.end(null);
+		notes.commit();
+		assertTrue(read(json).startsWith("{\n  \"version\": \"1.0\",\n"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownFormat() {
+		ReleaseNotesFormat.targetOf("pdf", new File("releaseNotes.txt"));
+	}
+}
@@ -0,0 +1,115 @@
+package com.george.plugins.jira;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * JUnit test case for the release notes file
+ *
+ */
+public class ReleaseNotesWriterTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private File target;
+
+	@Before
+	public void setUp() throws IOException {
+		target = File.createTempFile("releaseNotes", ".txt");
+	}
+
+	@After
+	public void tearDown() {
+		target.delete();
+	}
+
+	private String read() throws IOException {
+		FileInputStream in = new FileInputStream(target);
+		try {
+			byte[] bytes = new byte[(int) target.length()];
+			int n = 0;
+			while (n < bytes.length) {
+				n += in.read(bytes, n, bytes.length - n);
+			}
+			return new String(bytes, "UTF-8");
+		} finally {
+			in.close();
+		}
+	}
+
+	private void write(String content) throws IOException {
+		FileOutputStream out = new FileOutputStream(target);
+		out.write(content.getBytes("UTF-8"));
+		out.close();
+	}
+
+	@Test
+	public void testTargetReplacedOnCommit() throws Exception {
+		write("old notes\n");
+		ReleaseNotesWriter writer = new ReleaseNotesWriter(target, UTF8,
+				"\r\n", false);
+		StringBuilder summary = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			summary.append('\u00e9');
+		}
+		writer.println("[KEY-1] " + summary);
+		writer.println("[KEY-2] Fix");
+		assertEquals("old notes\n", read());
+		writer.commit();
+		writer.abort();
+		assertEquals("[KEY-1] " + summary + "\r\n[KEY-2] Fix\r\n", read());
+	}
+
+	@Test
+	public void testAppendAndAbort() throws Exception {
+		write("1.0\n");
+		ReleaseNotesWriter writer = new ReleaseNotesWriter(target, Charset
+				.forName("US-ASCII"), "\n", true);
+		writer.println("[KEY-3] Caf\u00e9");
+		writer.commit();
+		assertEquals("1.0\n[KEY-3] Caf?\n", read());
+
+		writer = new ReleaseNotesWriter(target, UTF8, "\n", false);
+		writer.println("discarded");
+		writer.abort();
+		assertEquals("1.0\n[KEY-3] Caf?\n", read());
+		assertFalse(new File(target.getPath() + ".tmp").exists());
+	}
+
+	@Test
+	public void testFailedCommitLeavesNoTemporaryFile() throws Exception {
+		File dir = new File(target.getPath() + ".dir");
+		File inside = new File(dir, "keep.txt");
+		dir.mkdir();
+		try {
+			new FileOutputStream(inside).close();
+			ReleaseNotesWriter writer = new ReleaseNotesWriter(dir, UTF8,
+					"\n", false);
+			writer.println("[KEY-1] Fix");
+			try {
+				writer.commit();
+				fail("A directory with files cannot be replaced");
+			} catch (IOException e) {
+				// Expected
+			}
+			writer.abort();
+			assertFalse(new File(dir.getPath() + ".tmp").exists());
+			assertTrue(inside.isFile());
+		} finally {
+			inside.delete();
+			dir.delete();
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package com.george.plugins.jira;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.SocketTimeoutException;
+import java.rmi.RemoteException;
+
+import org.apache.axis.AxisFault;
+import org.easymock.EasyMock;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemotePermissionException;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the JIRA retry policy and circuit breaker
+ *
+ */
+public class ResilienceDecoratorTest {
+
+	private static final RemoteVersion[] VERSIONS = new RemoteVersion[]{new RemoteVersion(
+			"1", "1.0", false, null, false, null)};
+	private static final RemoteVersion VERSION = new RemoteVersion("2", "2.0",
+			false, null, false, null);
+
+	private JiraSoapService jiraStub;
+	private CircuitBreaker breaker;
+
+	@Before
+	public void setUp() {
+		jiraStub = EasyMock.createStrictMock(JiraSoapService.class);
+		breaker = new CircuitBreaker(2, 60000);
+	}
+
+	private JiraSoapService decorate(int attempts) {
+		return new ResilienceDecorator(jiraStub, breaker, attempts, 0, 0, 0)
+				.decorate();
+	}
+
+	private static AxisFault timeout() {
+		return AxisFault.makeFault(new SocketTimeoutException("Read timed out"));
+	}
+
+	@Test
+	public void testRetryReadOnTransientError() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(timeout());
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(VERSIONS);
+		replay(jiraStub);
+
+		assertSame(VERSIONS, decorate(3).getVersions("TOKEN", "KEY"));
+		assertFalse(breaker.isOpen());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testNoRetryOfUpdates() throws Exception {
+		expect(jiraStub.addVersion("TOKEN", "KEY", VERSION)).andThrow(
+				timeout());
+		replay(jiraStub);
+
+		try {
+			decorate(3).addVersion("TOKEN", "KEY", VERSION);
+			fail("Timeout expected");
+		} catch (AxisFault e) {
+			// Expected
+		}
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testNoRetryOfJiraErrors() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(
+				new RemotePermissionException());
+		replay(jiraStub);
+
+		try {
+			decorate(3).getVersions("TOKEN", "KEY");
+			fail("Permission error expected");
+		} catch (RemotePermissionException e) {
+			// Expected
+		}
+		assertFalse(breaker.isOpen());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testCircuitOpensAfterConsecutiveFailures() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(timeout())
+				.times(2);
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(3);
+		try {
+			service.getVersions("TOKEN", "KEY");
+			fail("JIRA unavailable expected");
+		} catch (RemoteException e) {
+			// Expected
+		}
+		assertTrue(breaker.isOpen());
+		try {
+			service.getVersions("TOKEN", "KEY");
+			fail("Fail fast expected");
+		} catch (RemoteException e) {
+			assertFalse(e instanceof AxisFault);
+		}
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testTrialCallClosesCircuit() throws Exception {
+		breaker = new CircuitBreaker(1, 0);
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andThrow(timeout());
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(VERSIONS);
+		replay(jiraStub);
+
+		JiraSoapService service = decorate(1);
+		try {
+			service.getVersions("TOKEN", "KEY");
+			fail("Timeout expected");
+		} catch (AxisFault e) {
+			// Expected
+		}
+		assertTrue(breaker.isOpen());
+		assertSame(VERSIONS, service.getVersions("TOKEN", "KEY"));
+		assertFalse(breaker.isOpen());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testCallWithinDeadline() throws Exception {
+		expect(jiraStub.getVersions("TOKEN", "KEY")).andReturn(VERSIONS);
+		replay(jiraStub);
+
+		assertSame(VERSIONS, new ResilienceDecorator(jiraStub, breaker, 1, 0,
+				0, 60000).decorate().getVersions("TOKEN", "KEY"));
+		assertEquals(0, ResilienceDecorator.remainingMillis());
+		verify(jiraStub);
+	}
+
+	@Test
+	public void testHungCallCutOffAtDeadline() throws Exception {
+		final long[] remaining = new long[1];
+		JiraSoapService slow = (JiraSoapService) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[]{JiraSoapService.class}, new InvocationHandler() {
+					public Object invoke(Object proxy, Method method,
+							Object[] args) throws Throwable {
+						remaining[0] = ResilienceDecorator.remainingMillis();
+						Thread.sleep(10000);
+						return VERSIONS;
+					}
+				});
+		JiraSoapService service = new ResilienceDecorator(slow, breaker, 3, 0,
+				0, 200).decorate();
+
+		long start = System.currentTimeMillis();
+		try {
+			service.getVersions("TOKEN", "KEY");
+			fail("Deadline expected");
+		} catch (RemoteException e) {
+			// Expected
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		assertTrue("Cut off after " + elapsed + " ms", elapsed < 2000);
+		assertTrue(remaining[0] > 0 && remaining[0] <= 200);
+	}
+}
@@ -0,0 +1,142 @@
+package com.george.plugins.jira;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.atlassian.jira.rpc.soap.client.JiraSoapService;
+import com.atlassian.jira.rpc.soap.client.RemoteException;
+import com.atlassian.jira.rpc.soap.client.RemoteVersion;
+
+/**
+ * JUnit test case for the sharing of concurrent identical JIRA reads
+ *
+ */
+public class SingleFlightDecoratorTest {
+
+	private static final int CALLERS = 4;
+
+	private final AtomicInteger calls = new AtomicInteger();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private Object answer;
+	private SingleFlight flights;
+	private JiraSoapService service;
+
+	@Before
+	public void setUp() {
+		JiraSoapService jiraStub = (JiraSoapService) Proxy.newProxyInstance(
+				getClass().getClassLoader(),
+				new Class<?>[]{JiraSoapService.class}, new InvocationHandler() {
+					public Object invoke(Object proxy, Method method,
+							Object[] args) throws Throwable {
+						calls.incrementAndGet();
+						release.await();
+						if (answer instanceof Throwable) {
+							throw (Throwable) answer;
+						}
+						return answer;
+					}
+				});
+		flights = new SingleFlight();
+		service = new SingleFlightDecorator(jiraStub, flights).decorate();
+	}
+
+	/**
+	 * Calls getVersions from several threads, releasing JIRA once all but
+	 * the first caller wait for its result
+	 */
+	private List<Object> getVersionsConcurrently() throws Exception {
+		final List<Object> results = new ArrayList<Object>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < CALLERS; i++) {
+			Thread thread = new Thread() {
+				@Override
+				public void run() {
+					Object result;
+					try {
+						result = service.getVersions("TOKEN", "KEY");
+					} catch (Exception e) {
+						result = e;
+					}
+					synchronized (results) {
+						results.add(result);
+					}
+				}
+			};
+			thread.start();
+			threads.add(thread);
+		}
+		long deadline = System.currentTimeMillis() + 10000;
+		while (flights.getHits() < CALLERS - 1
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join(10000);
+		}
+		return results;
+	}
+
+	@Test
+	public void testConcurrentReadsShareOneCall() throws Exception {
+		RemoteVersion version = new RemoteVersion("1", "1.0", false, null,
+				false, null);
+		answer = new RemoteVersion[]{version};
+
+		List<Object> results = getVersionsConcurrently();
+		assertEquals(1, calls.get());
+		assertEquals(CALLERS - 1, flights.getHits());
+		assertEquals(1, flights.getMisses());
+		assertEquals(CALLERS, results.size());
+		for (Object result : results) {
+			assertNotSame(answer, result);
+			assertSame(version, ((RemoteVersion[]) result)[0]);
+		}
+	}
+
+	@Test
+	public void testErrorSharedWithWaitingCalls() throws Exception {
+		answer = new RemoteException();
+
+		List<Object> results = getVersionsConcurrently();
+		assertEquals(1, calls.get());
+		for (Object result : results) {
+			assertSame(answer, result);
+		}
+	}
+
+	@Test
+	public void testUpdatesNeverShared() throws Exception {
+		release.countDown();
+		service.releaseVersion("TOKEN", "KEY", new RemoteVersion());
+		service.releaseVersion("TOKEN", "KEY", new RemoteVersion());
+		assertEquals(2, calls.get());
+		assertEquals(0, flights.getMisses());
+		assertNull(SingleFlightDecorator.keyOf(JiraSoapService.class
+				.getMethod("releaseVersion", String.class, String.class,
+						RemoteVersion.class), null));
+	}
+
+	@Test
+	public void testNothingKeptOnceCompleted() throws Exception {
+		release.countDown();
+		answer = new RemoteVersion[0];
+		service.getVersions("TOKEN", "KEY");
+		service.getVersions("TOKEN", "KEY");
+		assertEquals(2, calls.get());
+		assertEquals(0, flights.getHits());
+	}
+}